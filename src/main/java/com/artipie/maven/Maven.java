@@ -41,6 +41,17 @@ public interface Maven {
      */
     CompletionStage<Void> update(Key upload, Key artifact);
 
+    /**
+     * Rebuilds repository metadata of a maven package from artifact versions
+     * found in storage. Artifact metadata should exist, it's used as a source for
+     * rebuilt metadata. By default, metadata is updated from artifact location.
+     * @param artifact Artifact location
+     * @return Completion stage
+     */
+    default CompletionStage<Void> rebuild(Key artifact) {
+        return this.update(artifact, artifact);
+    }
+
     /**
      * Fake {@link Maven} implementation.
      * @since 0.5
@@ -52,12 +63,23 @@ public interface Maven {
          */
         private boolean updated;
 
+        /**
+         * Was maven rebuilt?
+         */
+        private boolean rebuilt;
+
         @Override
         public CompletionStage<Void> update(final Key upload, final Key artifact) {
             this.updated = true;
             return CompletableFuture.allOf();
         }
 
+        @Override
+        public CompletionStage<Void> rebuild(final Key artifact) {
+            this.rebuilt = true;
+            return CompletableFuture.allOf();
+        }
+
         /**
          * Was maven updated?
          * @return True is was, false - otherwise
@@ -65,5 +87,13 @@ public interface Maven {
         public boolean wasUpdated() {
             return this.updated;
         }
+
+        /**
+         * Was maven rebuilt?
+         * @return True is was, false - otherwise
+         */
+        public boolean wasRebuilt() {
+            return this.rebuilt;
+        }
     }
 }
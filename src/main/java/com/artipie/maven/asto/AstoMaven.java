@@ -27,20 +27,29 @@ import com.artipie.asto.Concatenation;
 import com.artipie.asto.Key;
 import com.artipie.asto.Remaining;
 import com.artipie.asto.Storage;
+import com.artipie.asto.ext.KeyLastPart;
 import com.artipie.maven.Maven;
 import com.artipie.maven.metadata.ArtifactsMetadata;
 import com.artipie.maven.metadata.MavenMetadata;
-import com.jcabi.xml.XMLDocument;
+import com.artipie.maven.metadata.MetadataCache;
+import com.artipie.maven.metadata.ParsedMetadata;
 import hu.akarnokd.rxjava2.interop.SingleInterop;
-import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
-import org.xembly.Directives;
 
 /**
  * Maven front for artipie maven adaptor.
+ * <p>
+ * Metadata is updated incrementally: uploaded version is added to versions
+ * from repository {@code maven-metadata.xml}, artifact directory is listed
+ * only if repository metadata doesn't exist yet or on explicit
+ * {@link #rebuild(Key)}. Only immediate children of artifact key are listed
+ * if storage supports {@link HierarchicalListing}.
+ * </p>
  *
  * @since 0.2
  */
@@ -52,16 +61,37 @@ public final class AstoMaven implements Maven {
     private final Storage storage;
 
     /**
-     * Update metadata executor.
+     * Update metadata executor, updates of the same artifact are performed in order.
      */
-    private final Executor exec;
+    private final KeyedExecutor exec;
+
+    /**
+     * Digests of saved items.
+     */
+    private final SavedDigests digests;
+
+    /**
+     * Parsed metadata cache.
+     */
+    private final MetadataCache cache;
 
     /**
      * Ctor.
      * @param storage Maven repo storage
      */
     public AstoMaven(final Storage storage) {
-        this(storage, Executors.newSingleThreadExecutor());
+        this(storage, new SavedDigests(), new MetadataCache());
+    }
+
+    /**
+     * Ctor.
+     * @param storage Maven repo storage
+     * @param digests Digests of saved items, calculated by {@link DigestingStorage}
+     * @param cache Parsed metadata cache
+     */
+    public AstoMaven(final Storage storage, final SavedDigests digests,
+        final MetadataCache cache) {
+        this(storage, KeyedExecutor.shared(), digests, cache);
     }
 
     /**
@@ -70,39 +100,104 @@ public final class AstoMaven implements Maven {
      * @param exec Executor
      */
     public AstoMaven(final Storage storage, final Executor exec) {
+        this(storage, exec, new SavedDigests(), new MetadataCache());
+    }
+
+    /**
+     * Constructor.
+     * @param storage Storage used by this class.
+     * @param exec Executor
+     * @param digests Digests of saved items, calculated by {@link DigestingStorage}
+     * @param cache Parsed metadata cache
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public AstoMaven(final Storage storage, final Executor exec, final SavedDigests digests,
+        final MetadataCache cache) {
+        this(storage, new KeyedExecutor(exec), digests, cache);
+    }
+
+    /**
+     * Constructor.
+     * @param storage Storage used by this class.
+     * @param exec Executor, which runs updates of the same artifact in order
+     * @param digests Digests of saved items, calculated by {@link DigestingStorage}
+     * @param cache Parsed metadata cache
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public AstoMaven(final Storage storage, final KeyedExecutor exec,
+        final SavedDigests digests, final MetadataCache cache) {
         this.storage = storage;
         this.exec = exec;
+        this.digests = digests;
+        this.cache = cache;
     }
 
     @Override
     public CompletionStage<Void> update(final Key upload, final Key artifact) {
-        return this.storage.value(new Key.From(upload, "maven-metadata.xml"))
-            .thenComposeAsync(
-                pub -> new Concatenation(pub).single().to(SingleInterop.get()), this.exec
+        final Key meta = new Key.From(artifact, ArtifactsMetadata.MAVEN_METADATA);
+        return this.exec.run(
+            artifact.string(),
+            () -> this.storage.exists(meta).thenCompose(
+                exists -> {
+                    final CompletionStage<Collection<String>> versions;
+                    if (exists) {
+                        versions = this.cache.load(this.storage, meta)
+                            .thenApply(ParsedMetadata::versions);
+                    } else {
+                        versions = this.versions(artifact);
+                    }
+                    return versions;
+                }
+            ).thenCompose(
+                versions -> new ArtifactsMetadata(this.storage, this.cache).maxVersion(upload)
+                    .thenApply(
+                        latest -> {
+                            final Set<String> res = new LinkedHashSet<>(versions);
+                            res.add(latest);
+                            return res;
+                        }
+                    )
+            ).thenCompose(versions -> this.save(upload, versions))
+        );
+    }
+
+    @Override
+    public CompletionStage<Void> rebuild(final Key artifact) {
+        return this.exec.run(
+            artifact.string(),
+            () -> this.versions(artifact).thenCompose(
+                versions -> this.save(artifact, versions)
             )
-            .thenApplyAsync(buf -> new String(new Remaining(buf).bytes(), StandardCharsets.UTF_8))
-            .thenApply(XMLDocument::new)
-            .thenApply(doc -> new MavenMetadata(Directives.copyOf(doc.node())))
+        );
+    }
+
+    /**
+     * Update versions in metadata and save it with checksums.
+     * @param location Metadata location
+     * @param versions Versions
+     * @return Completion stage
+     */
+    private CompletionStage<Void> save(final Key location, final Collection<String> versions) {
+        return this.storage.value(new Key.From(location, ArtifactsMetadata.MAVEN_METADATA))
+            .thenCompose(pub -> new Concatenation(pub).single().to(SingleInterop.get()))
+            .thenApply(buf -> new MavenMetadata(new Remaining(buf).bytes()).versions(versions))
+            .thenCompose(doc -> doc.save(this.storage, location))
             .thenCompose(
-                doc -> this.storage.list(artifact).thenApply(
-                    items -> items.stream()
-                        .map(
-                            item -> item.string()
-                                .replaceAll(String.format("%s/", artifact.string()), "")
-                                .split("/")[0]
-                        )
-                        .filter(item -> !item.startsWith("maven-metadata"))
-                        .collect(Collectors.toSet())
-                ).thenCompose(
-                    versions -> new ArtifactsMetadata(this.storage).maxVersion(upload)
-                        .thenApply(
-                            latest -> {
-                                versions.add(latest);
-                                return doc.versions(versions);
-                            }
-                    )
-                )
-            ).thenCompose(doc -> doc.save(this.storage, upload))
-            .thenCompose(meta -> new RepositoryChecksums(this.storage).generate(meta));
+                meta -> new RepositoryChecksums(this.storage, this.digests).generate(meta)
+            );
+    }
+
+    /**
+     * Artifact versions from storage: names of artifact subdirectories.
+     * @param artifact Artifact location
+     * @return Versions
+     */
+    private CompletionStage<Collection<String>> versions(final Key artifact) {
+        return new Children(this.storage).keys(artifact).thenApply(
+            keys -> keys.stream()
+                .map(key -> new KeyLastPart(key).get())
+                .filter(item -> !item.startsWith("maven-metadata"))
+                .collect(Collectors.toCollection(LinkedHashSet::new))
+        );
     }
 }
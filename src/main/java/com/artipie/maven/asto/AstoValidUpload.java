@@ -25,18 +25,18 @@ package com.artipie.maven.asto;
 
 import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
-import com.artipie.asto.ext.ContentDigest;
-import com.artipie.asto.ext.Digests;
 import com.artipie.asto.rx.RxStorage;
 import com.artipie.asto.rx.RxStorageWrapper;
 import com.artipie.maven.ValidUpload;
 import com.artipie.maven.metadata.ArtifactsMetadata;
+import com.artipie.maven.metadata.MetadataCache;
 import hu.akarnokd.rxjava2.interop.SingleInterop;
-import io.reactivex.Observable;
 import io.reactivex.Single;
 import java.util.ArrayList;
-import java.util.Locale;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.regex.Pattern;
@@ -60,17 +60,45 @@ public final class AstoValidUpload implements ValidUpload {
      */
     private static final Pattern PTN_ARTIFACT = Pattern.compile(".+\\.(?:pom|jar|war|ear|rar|aar)");
 
+    /**
+     * Max number of artifacts validated at once.
+     */
+    private static final int CONCURRENCY = 4;
+
     /**
      * Storage.
      */
     private final Storage storage;
 
+    /**
+     * Digests of saved items.
+     */
+    private final SavedDigests digests;
+
+    /**
+     * Parsed metadata cache.
+     */
+    private final MetadataCache cache;
+
     /**
      * Ctor.
      * @param storage Abstract storage
      */
     public AstoValidUpload(final Storage storage) {
+        this(storage, new SavedDigests(), new MetadataCache());
+    }
+
+    /**
+     * Ctor.
+     * @param storage Abstract storage
+     * @param digests Digests of saved items, calculated by {@link DigestingStorage}
+     * @param cache Parsed metadata cache
+     */
+    public AstoValidUpload(final Storage storage, final SavedDigests digests,
+        final MetadataCache cache) {
         this.storage = storage;
+        this.digests = digests;
+        this.cache = cache;
     }
 
     @Override
@@ -95,7 +123,7 @@ public final class AstoValidUpload implements ValidUpload {
      *  false otherwise.
      */
     private CompletionStage<Boolean> validateMetadata(final Key upload, final Key artifact) {
-        final ArtifactsMetadata metadata = new ArtifactsMetadata(this.storage);
+        final ArtifactsMetadata metadata = new ArtifactsMetadata(this.storage, this.cache);
         final String meta = "maven-metadata.xml";
         return this.storage.exists(new Key.From(artifact, meta))
             .thenCompose(
@@ -129,19 +157,23 @@ public final class AstoValidUpload implements ValidUpload {
 
     /**
      * Validate artifact checksums.
+     * <p>
+     * Artifacts of the version are validated in parallel, but not more than
+     * {@link #CONCURRENCY} at once.
+     * </p>
      * @param upload Artifact location
      * @return Completable validation action: true if checksums are correct, false otherwise
      */
     private CompletionStage<Boolean> validateChecksums(final Key upload) {
         final RxStorage rxsto = new RxStorageWrapper(this.storage);
-        return new ArtifactsMetadata(this.storage).maxVersion(upload).thenCompose(
+        return new ArtifactsMetadata(this.storage, this.cache).maxVersion(upload).thenCompose(
             version -> {
                 final Key pckg = new Key.From(upload, version);
                 return rxsto.list(pckg)
-                    .flatMapObservable(Observable::fromIterable)
+                    .flattenAsFlowable(keys -> keys)
                     .filter(key -> PTN_ARTIFACT.matcher(key.string()).matches())
                     .flatMapSingle(
-                        this::validateArtifactChecksums
+                        this::validateArtifactChecksums, false, AstoValidUpload.CONCURRENCY
                     ).reduce(
                         new ArrayList<>(5),
                         (list, res) -> {
@@ -157,6 +189,10 @@ public final class AstoValidUpload implements ValidUpload {
 
     /**
      * Validates artifact checksums.
+     * <p>
+     * Artifact is read at most once to calculate digests for all algorithms
+     * of existing checksum files.
+     * </p>
      * @param artifact Artifact key
      * @return Validation result: false if at least one checksum is invalid, true if all are valid
      *  or if no checksums exists.
@@ -164,22 +200,38 @@ public final class AstoValidUpload implements ValidUpload {
     private Single<Boolean> validateArtifactChecksums(final Key artifact) {
         return SingleInterop.fromFuture(
             new RepositoryChecksums(this.storage).checksums(artifact)
-        ).map(Map::entrySet)
-            .flatMapObservable(Observable::fromIterable)
-            .flatMapSingle(
-                entry ->
-                    SingleInterop.fromFuture(
-                        this.storage.value(artifact).thenCompose(
-                            content -> new ContentDigest(
-                                content,
-                                Digests.valueOf(
-                                    entry.getKey().toUpperCase(Locale.US)
-                                )
-                            ).hex().thenApply(
-                                hex -> hex.equals(entry.getValue())
-                            )
+        ).flatMap(
+            checksums -> SingleInterop.fromFuture(
+                this.digests(artifact, checksums.keySet()).thenApply(
+                    digests -> checksums.entrySet().stream().allMatch(
+                        entry -> entry.getValue().equals(digests.get(entry.getKey()))
                     )
                 )
-            ).all(equal -> equal);
+            )
+        );
+    }
+
+    /**
+     * Artifact digests, calculated on save if known, read from storage otherwise.
+     * @param artifact Artifact key
+     * @param algs Algorithms names
+     * @return Digests hex by algorithm name
+     */
+    private CompletionStage<Map<String, String>> digests(
+        final Key artifact, final Set<String> algs
+    ) {
+        final CompletionStage<Map<String, String>> res;
+        final Optional<Map<String, String>> known = this.digests.get(artifact)
+            .filter(saved -> saved.keySet().containsAll(algs));
+        if (algs.isEmpty()) {
+            res = CompletableFuture.completedFuture(Collections.emptyMap());
+        } else if (known.isPresent()) {
+            res = CompletableFuture.completedFuture(known.get());
+        } else {
+            res = this.storage.value(artifact).thenCompose(
+                content -> new ContentDigests(content, algs).hex()
+            );
+        }
+        return res;
     }
 }
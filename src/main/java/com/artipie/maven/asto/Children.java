@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.asto;
+
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Immediate children of the storage key.
+ * <p>
+ * Uses {@link HierarchicalListing} if storage supports it, otherwise lists
+ * all items under the key recursively and collects first-level names.
+ * </p>
+ * @since 0.12
+ */
+public final class Children {
+
+    /**
+     * Storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Ctor.
+     * @param storage Storage
+     */
+    public Children(final Storage storage) {
+        this.storage = storage;
+    }
+
+    /**
+     * List immediate children of the key.
+     * @param prefix Parent key
+     * @return Children keys
+     */
+    public CompletableFuture<Collection<Key>> keys(final Key prefix) {
+        final CompletableFuture<Collection<Key>> res;
+        if (this.storage instanceof HierarchicalListing) {
+            res = ((HierarchicalListing) this.storage).children(prefix);
+        } else {
+            final int start;
+            if (prefix.string().isEmpty()) {
+                start = 0;
+            } else {
+                start = prefix.string().length() + 1;
+            }
+            res = this.storage.list(prefix).thenApply(
+                keys -> keys.stream()
+                    .map(key -> key.string().substring(start).split("/")[0])
+                    .distinct()
+                    .map(name -> new Key.From(prefix, name))
+                    .collect(Collectors.toCollection(LinkedHashSet::new))
+            );
+        }
+        return res;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.maven.cache.LruCache;
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory cache of small storage items content.
+ * <p>
+ * Items not bigger than size threshold are read once and kept in memory
+ * as read-only buffers, total size of kept items is limited by budget, least
+ * recently used items are evicted first. Cached items have to be invalidated
+ * when they are changed, content read concurrently with invalidation is not
+ * cached.
+ * </p>
+ * @since 0.12
+ */
+public final class ContentCache {
+
+    /**
+     * Default max item size in bytes.
+     */
+    private static final int THRESHOLD = 16 * 1024;
+
+    /**
+     * Default max total size of items in bytes.
+     */
+    private static final long BUDGET = 16L * 1024 * 1024;
+
+    /**
+     * Max item size in bytes.
+     */
+    private final long threshold;
+
+    /**
+     * Cached content by key.
+     */
+    private final LruCache<String, ByteBuffer> cache;
+
+    /**
+     * Invalidations counter, also guards cache updates, so content is not
+     * put to cache concurrently with invalidation.
+     */
+    private final AtomicLong epoch;
+
+    /**
+     * Ctor.
+     */
+    public ContentCache() {
+        this(ContentCache.THRESHOLD, ContentCache.BUDGET);
+    }
+
+    /**
+     * Ctor.
+     * @param threshold Max item size in bytes
+     * @param budget Max total size of items in bytes
+     */
+    public ContentCache(final long threshold, final long budget) {
+        this.threshold = threshold;
+        this.cache = new LruCache<>(budget, ByteBuffer::remaining);
+        this.epoch = new AtomicLong();
+    }
+
+    /**
+     * Item content from cache or from storage.
+     * @param storage Storage
+     * @param key Item key
+     * @return Content future
+     */
+    public CompletionStage<Content> value(final Storage storage, final Key key) {
+        final Optional<ByteBuffer> cached = this.cache.get(key.string());
+        final CompletionStage<Content> res;
+        if (cached.isPresent()) {
+            res = CompletableFuture.completedFuture(ContentCache.content(cached.get()));
+        } else {
+            final long start = this.epoch.get();
+            res = storage.value(key).thenCompose(
+                content -> {
+                    final CompletionStage<Content> read;
+                    if (content.size().filter(size -> size <= this.threshold).isPresent()) {
+                        read = new PublisherAs(content).bytes().thenApply(
+                            bytes -> {
+                                final ByteBuffer buf = ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+                                this.put(key, buf, start);
+                                return ContentCache.content(buf);
+                            }
+                        );
+                    } else {
+                        read = CompletableFuture.completedFuture(content);
+                    }
+                    return read;
+                }
+            );
+        }
+        return res;
+    }
+
+    /**
+     * Forget item content.
+     * @param key Item key
+     */
+    public void invalidate(final Key key) {
+        synchronized (this.epoch) {
+            this.epoch.incrementAndGet();
+            this.cache.remove(key.string());
+        }
+    }
+
+    /**
+     * Keep item content read from storage if there were no invalidations
+     * since reading was started.
+     * @param key Item key
+     * @param buf Read-only buffer
+     * @param start Invalidations counter at the start of reading
+     */
+    private void put(final Key key, final ByteBuffer buf, final long start) {
+        synchronized (this.epoch) {
+            if (this.epoch.get() == start) {
+                this.cache.put(key.string(), buf);
+            }
+        }
+    }
+
+    /**
+     * Content of cached buffer.
+     * @param buf Read-only buffer
+     * @return Content
+     */
+    private static Content content(final ByteBuffer buf) {
+        return new Content.From(
+            (long) buf.remaining(), Flowable.fromCallable(buf::duplicate)
+        );
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.asto;
+
+import com.artipie.asto.ext.Digests;
+import hu.akarnokd.rxjava2.interop.SingleInterop;
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import org.apache.commons.codec.binary.Hex;
+import org.reactivestreams.Publisher;
+
+/**
+ * Digests of content for several algorithms at once.
+ * <p>
+ * Content is subscribed only once, every chunk is passed to all digests,
+ * so it's not required to read the same content for each algorithm.
+ * </p>
+ * @since 0.12
+ */
+public final class ContentDigests {
+
+    /**
+     * Content.
+     */
+    private final Publisher<ByteBuffer> content;
+
+    /**
+     * Algorithms names, e.g. {@code sha1} or {@code md5}.
+     */
+    private final Collection<String> algs;
+
+    /**
+     * Ctor.
+     * @param content Content
+     * @param algs Algorithms names, e.g. {@code sha1} or {@code md5}
+     */
+    public ContentDigests(final Publisher<ByteBuffer> content, final Collection<String> algs) {
+        this.content = content;
+        this.algs = algs;
+    }
+
+    /**
+     * Hex encoded digests.
+     * @return Completion stage with digests hex by algorithm name
+     */
+    public CompletionStage<Map<String, String>> hex() {
+        return Flowable.fromPublisher(this.content)
+            .reduceWith(
+                () -> ContentDigests.digests(this.algs),
+                (digests, chunk) -> {
+                    ContentDigests.update(digests.values(), chunk);
+                    return digests;
+                }
+            ).map(ContentDigests::hex)
+            .to(SingleInterop.get());
+    }
+
+    /**
+     * New digests for algorithms.
+     * @param algs Algorithms names
+     * @return Digests by algorithm name
+     */
+    static Map<String, MessageDigest> digests(final Collection<String> algs) {
+        final Map<String, MessageDigest> res = new HashMap<>(algs.size());
+        for (final String alg : algs) {
+            res.put(alg, Digests.valueOf(alg.toUpperCase(Locale.US)).get());
+        }
+        return res;
+    }
+
+    /**
+     * Update all digests with chunk, chunk position is not changed.
+     * @param digests Digests to update
+     * @param chunk Content chunk
+     */
+    static void update(final Collection<MessageDigest> digests, final ByteBuffer chunk) {
+        for (final MessageDigest digest : digests) {
+            chunk.mark();
+            digest.update(chunk);
+            chunk.reset();
+        }
+    }
+
+    /**
+     * Hex encoded digests.
+     * @param digests Digests by algorithm name
+     * @return Hex by algorithm name
+     */
+    static Map<String, String> hex(final Map<String, MessageDigest> digests) {
+        final Map<String, String> res = new HashMap<>(digests.size());
+        for (final Map.Entry<String, MessageDigest> entry : digests.entrySet()) {
+            res.put(entry.getKey(), Hex.encodeHexString(entry.getValue().digest()));
+        }
+        return res;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import io.reactivex.Flowable;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Storage which calculates checksums of saved content on the fly.
+ * <p>
+ * Content is passed through {@link RepositoryChecksums#SUPPORTED_ALGS} digests
+ * while it's being written to origin storage, calculated digests are remembered
+ * in {@link SavedDigests} when save is completed. Digests are moved or removed
+ * together with the item. Operations performed by {@link #exclusively(Key, Function)}
+ * access origin storage directly.
+ * </p>
+ * @since 0.12
+ */
+public final class DigestingStorage implements Storage, HierarchicalListing {
+
+    /**
+     * Origin storage.
+     */
+    private final Storage origin;
+
+    /**
+     * Saved items digests.
+     */
+    private final SavedDigests digests;
+
+    /**
+     * Ctor.
+     * @param origin Origin storage
+     * @param digests Saved items digests
+     */
+    public DigestingStorage(final Storage origin, final SavedDigests digests) {
+        this.origin = origin;
+        this.digests = digests;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> exists(final Key key) {
+        return this.origin.exists(key);
+    }
+
+    @Override
+    public CompletableFuture<Collection<Key>> list(final Key prefix) {
+        return this.origin.list(prefix);
+    }
+
+    @Override
+    public CompletableFuture<Collection<Key>> children(final Key prefix) {
+        return new Children(this.origin).keys(prefix);
+    }
+
+    @Override
+    public CompletableFuture<Void> save(final Key key, final Content content) {
+        this.digests.remove(key);
+        final AtomicReference<Map<String, String>> res = new AtomicReference<>();
+        return this.origin.save(
+            key,
+            new Content.From(
+                content.size(),
+                Flowable.defer(
+                    () -> {
+                        final Map<String, MessageDigest> state =
+                            ContentDigests.digests(RepositoryChecksums.SUPPORTED_ALGS);
+                        return Flowable.fromPublisher(content)
+                            .doOnNext(chunk -> ContentDigests.update(state.values(), chunk))
+                            .doOnComplete(() -> res.set(ContentDigests.hex(state)));
+                    }
+                )
+            )
+        ).thenRun(
+            () -> {
+                final Map<String, String> hex = res.get();
+                if (hex != null) {
+                    this.digests.put(key, hex);
+                }
+            }
+        );
+    }
+
+    @Override
+    public CompletableFuture<Void> move(final Key source, final Key destination) {
+        this.digests.remove(destination);
+        return this.origin.move(source, destination).thenRun(
+            () -> {
+                this.digests.get(source).ifPresent(hex -> this.digests.put(destination, hex));
+                this.digests.remove(source);
+            }
+        );
+    }
+
+    @Override
+    public CompletableFuture<Long> size(final Key key) {
+        return this.origin.size(key);
+    }
+
+    @Override
+    public CompletableFuture<Content> value(final Key key) {
+        return this.origin.value(key);
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(final Key key) {
+        this.digests.remove(key);
+        return this.origin.delete(key);
+    }
+
+    @Override
+    public <T> CompletionStage<T> exclusively(
+        final Key key,
+        final Function<Storage, CompletionStage<T>> operation
+    ) {
+        return this.origin.exclusively(key, operation);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.asto;
+
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.fs.FileStorage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * File storage with {@link HierarchicalListing}: children of the key are
+ * read from the directory of the key, nested directories are not walked
+ * unless it's needed to check that a child directory contains any item.
+ * @since 0.12
+ */
+public final class HierarchicalFileStorage extends Storage.Wrap
+    implements HierarchicalListing {
+
+    /**
+     * Storage root directory.
+     */
+    private final Path dir;
+
+    /**
+     * Executor for blocking file system listing.
+     */
+    private final Executor exec;
+
+    /**
+     * Ctor.
+     * @param dir Storage root directory
+     */
+    public HierarchicalFileStorage(final Path dir) {
+        this(dir, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Ctor.
+     * @param dir Storage root directory
+     * @param exec Executor for blocking file system listing
+     */
+    public HierarchicalFileStorage(final Path dir, final Executor exec) {
+        super(new FileStorage(dir));
+        this.dir = dir;
+        this.exec = exec;
+    }
+
+    @Override
+    public CompletableFuture<Collection<Key>> children(final Key prefix) {
+        return CompletableFuture.supplyAsync(
+            () -> {
+                final Path parent = this.dir.resolve(prefix.string());
+                final Collection<Key> res;
+                if (Files.isDirectory(parent)) {
+                    try (Stream<Path> paths = Files.list(parent)) {
+                        res = paths.filter(HierarchicalFileStorage::hasItems)
+                            .map(path -> new Key.From(prefix, path.getFileName().toString()))
+                            .collect(Collectors.toCollection(LinkedHashSet::new));
+                    } catch (final IOException err) {
+                        throw new UncheckedIOException(err);
+                    }
+                } else {
+                    res = Collections.emptyList();
+                }
+                return res;
+            },
+            this.exec
+        );
+    }
+
+    /**
+     * Whether path is a file or a directory which contains files,
+     * as storage lists files only.
+     * @param path File system path
+     * @return True if path is listed by storage
+     */
+    private static boolean hasItems(final Path path) {
+        final boolean res;
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> paths = Files.walk(path)) {
+                res = paths.anyMatch(Files::isRegularFile);
+            } catch (final IOException err) {
+                throw new UncheckedIOException(err);
+            }
+        } else {
+            res = Files.isRegularFile(path);
+        }
+        return res;
+    }
+}
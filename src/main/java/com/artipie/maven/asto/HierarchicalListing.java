@@ -0,0 +1,50 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.asto;
+
+import com.artipie.asto.Key;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Storage capability to list immediate children of the key, like
+ * delimiter listing of object storages or directory listing of file system.
+ * <p>
+ * Storage implementations and decorators may implement this interface
+ * in addition to {@link com.artipie.asto.Storage}, use {@link Children}
+ * to list children of any storage. {@link HierarchicalFileStorage} implements
+ * it for file system storage.
+ * </p>
+ * @since 0.12
+ */
+public interface HierarchicalListing {
+
+    /**
+     * List immediate children of the key: items and "directories"
+     * which contain other items.
+     * @param prefix Parent key
+     * @return Children keys
+     */
+    CompletableFuture<Collection<Key>> children(Key prefix);
+}
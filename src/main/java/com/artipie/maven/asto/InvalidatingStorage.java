@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Storage which invalidates cached data of items modified through it.
+ * <p>
+ * Invalidation callback is called with the item key when item is saved,
+ * deleted or moved (for both source and destination), before and after
+ * the operation. Storage provided to {@link #exclusively(Key, Function)}
+ * operation invalidates items too.
+ * </p>
+ * @since 0.12
+ */
+public final class InvalidatingStorage implements Storage, HierarchicalListing {
+
+    /**
+     * Origin storage.
+     */
+    private final Storage origin;
+
+    /**
+     * Invalidation callback.
+     */
+    private final Consumer<Key> invalidate;
+
+    /**
+     * Ctor.
+     * @param origin Origin storage
+     * @param invalidate Invalidation callback, accepts modified item key
+     */
+    public InvalidatingStorage(final Storage origin, final Consumer<Key> invalidate) {
+        this.origin = origin;
+        this.invalidate = invalidate;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> exists(final Key key) {
+        return this.origin.exists(key);
+    }
+
+    @Override
+    public CompletableFuture<Collection<Key>> list(final Key prefix) {
+        return this.origin.list(prefix);
+    }
+
+    @Override
+    public CompletableFuture<Collection<Key>> children(final Key prefix) {
+        return new Children(this.origin).keys(prefix);
+    }
+
+    @Override
+    public CompletableFuture<Void> save(final Key key, final Content content) {
+        this.invalidate.accept(key);
+        return this.origin.save(key, content).thenRun(() -> this.invalidate.accept(key));
+    }
+
+    @Override
+    public CompletableFuture<Void> move(final Key source, final Key destination) {
+        this.invalidate.accept(source);
+        this.invalidate.accept(destination);
+        return this.origin.move(source, destination).thenRun(
+            () -> {
+                this.invalidate.accept(source);
+                this.invalidate.accept(destination);
+            }
+        );
+    }
+
+    @Override
+    public CompletableFuture<Long> size(final Key key) {
+        return this.origin.size(key);
+    }
+
+    @Override
+    public CompletableFuture<Content> value(final Key key) {
+        return this.origin.value(key);
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(final Key key) {
+        this.invalidate.accept(key);
+        return this.origin.delete(key).thenRun(() -> this.invalidate.accept(key));
+    }
+
+    @Override
+    public <T> CompletionStage<T> exclusively(
+        final Key key,
+        final Function<Storage, CompletionStage<T>> operation
+    ) {
+        return this.origin.exclusively(
+            key, target -> operation.apply(new InvalidatingStorage(target, this.invalidate))
+        );
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.asto;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Executor which runs tasks with the same key one by one in submission order,
+ * tasks with different keys run in parallel on the pool.
+ * <p>
+ * {@link #shared()} instance runs tasks on the daemon pool with the number of
+ * threads equal to available processors, it's used by default for maven
+ * metadata updates, so updates of different artifacts don't wait for each other.
+ * </p>
+ * @since 0.12
+ */
+public final class KeyedExecutor {
+
+    /**
+     * Shared instance.
+     */
+    private static final KeyedExecutor SHARED = new KeyedExecutor(
+        Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(), KeyedExecutor.threads()
+        )
+    );
+
+    /**
+     * Pool to run tasks.
+     */
+    private final Executor pool;
+
+    /**
+     * Last submitted task by key.
+     */
+    private final Map<String, CompletableFuture<Void>> tails;
+
+    /**
+     * Ctor.
+     * @param pool Pool to run tasks
+     */
+    public KeyedExecutor(final Executor pool) {
+        this.pool = pool;
+        this.tails = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Shared instance.
+     * @return Shared keyed executor
+     */
+    public static KeyedExecutor shared() {
+        return KeyedExecutor.SHARED;
+    }
+
+    /**
+     * Run asynchronous action after all previously submitted tasks and actions
+     * with the same key are completed, next tasks with the key wait until the stage
+     * returned by the action is completed.
+     * @param key Key
+     * @param action Action
+     * @param <T> Result type
+     * @return Action result
+     */
+    public <T> CompletionStage<T> run(final String key,
+        final Supplier<? extends CompletionStage<T>> action) {
+        final CompletableFuture<T> res = new CompletableFuture<>();
+        final CompletableFuture<Void> next = this.tails.compute(
+            key,
+            (name, tail) -> {
+                final CompletableFuture<Void> prev;
+                if (tail == null) {
+                    prev = CompletableFuture.completedFuture(null);
+                } else {
+                    prev = tail;
+                }
+                return prev.thenComposeAsync(
+                    nothing -> CompletableFuture.<Void>completedFuture(null)
+                        .thenCompose(ignored -> action.get())
+                        .handle(
+                            (value, err) -> {
+                                if (err == null) {
+                                    res.complete(value);
+                                } else {
+                                    res.completeExceptionally(err);
+                                }
+                                return null;
+                            }
+                        ),
+                    this.pool
+                );
+            }
+        );
+        next.thenRun(() -> this.tails.remove(key, next));
+        return res;
+    }
+
+    /**
+     * Factory of named daemon threads.
+     * @return Thread factory
+     */
+    private static ThreadFactory threads() {
+        final AtomicInteger count = new AtomicInteger();
+        return task -> {
+            final Thread thread = new Thread(
+                task, String.format("artipie-maven-%d", count.incrementAndGet())
+            );
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
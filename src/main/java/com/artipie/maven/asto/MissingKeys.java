@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.asto;
+
+import com.artipie.asto.Key;
+import com.artipie.maven.cache.LruCache;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keys of storage items which were not found.
+ * <p>
+ * Missing keys are remembered for limited time, number of remembered keys
+ * is limited, least recently used keys are forgotten first. Keys have to be
+ * invalidated when items are saved, lookups which were started before
+ * invalidation are not remembered.
+ * </p>
+ * @since 0.12
+ */
+public final class MissingKeys {
+
+    /**
+     * Default max number of keys.
+     */
+    private static final int CAPACITY = 10_000;
+
+    /**
+     * Default time to remember missing key.
+     */
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    /**
+     * Expiration time in nanos by key.
+     */
+    private final LruCache<String, Long> cache;
+
+    /**
+     * Time to remember missing key in nanos.
+     */
+    private final long ttl;
+
+    /**
+     * Invalidations counter.
+     */
+    private final AtomicLong epoch;
+
+    /**
+     * Ctor.
+     */
+    public MissingKeys() {
+        this(MissingKeys.CAPACITY, MissingKeys.TTL);
+    }
+
+    /**
+     * Ctor.
+     * @param capacity Max number of keys
+     * @param ttl Time to remember missing key
+     */
+    public MissingKeys(final int capacity, final Duration ttl) {
+        this.cache = new LruCache<>(capacity);
+        this.ttl = ttl.toNanos();
+        this.epoch = new AtomicLong();
+    }
+
+    /**
+     * Current invalidation epoch, should be obtained before lookup.
+     * @return Epoch
+     */
+    public long epoch() {
+        return this.epoch.get();
+    }
+
+    /**
+     * Whether item is known to be missing.
+     * @param key Item key
+     * @return True if item was not found recently
+     */
+    public boolean contains(final Key key) {
+        final long now = System.nanoTime();
+        return this.cache.get(key.string()).filter(
+            expires -> {
+                final boolean alive = expires - now > 0;
+                if (!alive) {
+                    this.cache.remove(key.string());
+                }
+                return alive;
+            }
+        ).isPresent();
+    }
+
+    /**
+     * Remember missing item.
+     * @param key Item key
+     * @param start Epoch obtained before lookup
+     */
+    public void add(final Key key, final long start) {
+        if (this.epoch.get() == start) {
+            this.cache.put(key.string(), System.nanoTime() + this.ttl);
+        }
+    }
+
+    /**
+     * Forget missing item.
+     * @param key Item key
+     */
+    public void invalidate(final Key key) {
+        this.epoch.incrementAndGet();
+        this.cache.remove(key.string());
+    }
+}
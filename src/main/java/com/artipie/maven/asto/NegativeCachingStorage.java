@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.ValueNotFoundException;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Storage which remembers missing items in {@link MissingKeys}.
+ * <p>
+ * Requests for items known to be missing are answered without origin
+ * storage access: {@code exists} returns {@code false}, {@code value} and
+ * {@code size} fail with {@link ValueNotFoundException}. Missing keys are
+ * not invalidated by this storage, they have to be invalidated by the code
+ * which saves items, see {@link InvalidatingStorage}.
+ * </p>
+ * @since 0.12
+ */
+public final class NegativeCachingStorage implements Storage, HierarchicalListing {
+
+    /**
+     * Origin storage.
+     */
+    private final Storage origin;
+
+    /**
+     * Missing keys.
+     */
+    private final MissingKeys missing;
+
+    /**
+     * Ctor.
+     * @param origin Origin storage
+     * @param missing Missing keys
+     */
+    public NegativeCachingStorage(final Storage origin, final MissingKeys missing) {
+        this.origin = origin;
+        this.missing = missing;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> exists(final Key key) {
+        final CompletableFuture<Boolean> res;
+        if (this.missing.contains(key)) {
+            res = CompletableFuture.completedFuture(false);
+        } else {
+            final long start = this.missing.epoch();
+            res = this.origin.exists(key).thenApply(
+                exists -> {
+                    if (!exists) {
+                        this.missing.add(key, start);
+                    }
+                    return exists;
+                }
+            );
+        }
+        return res;
+    }
+
+    @Override
+    public CompletableFuture<Collection<Key>> list(final Key prefix) {
+        return this.origin.list(prefix);
+    }
+
+    @Override
+    public CompletableFuture<Collection<Key>> children(final Key prefix) {
+        return new Children(this.origin).keys(prefix);
+    }
+
+    @Override
+    public CompletableFuture<Void> save(final Key key, final Content content) {
+        return this.origin.save(key, content);
+    }
+
+    @Override
+    public CompletableFuture<Void> move(final Key source, final Key destination) {
+        return this.origin.move(source, destination);
+    }
+
+    @Override
+    public CompletableFuture<Long> size(final Key key) {
+        return this.lookup(key, () -> this.origin.size(key));
+    }
+
+    @Override
+    public CompletableFuture<Content> value(final Key key) {
+        return this.lookup(key, () -> this.origin.value(key));
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(final Key key) {
+        return this.origin.delete(key);
+    }
+
+    @Override
+    public <T> CompletionStage<T> exclusively(
+        final Key key,
+        final Function<Storage, CompletionStage<T>> operation
+    ) {
+        return this.origin.exclusively(
+            key, target -> operation.apply(new NegativeCachingStorage(target, this.missing))
+        );
+    }
+
+    /**
+     * Item lookup which fails for known missing item
+     * and remembers item if it's not found.
+     * @param key Item key
+     * @param request Origin storage request
+     * @param <T> Result type
+     * @return Result future
+     */
+    private <T> CompletableFuture<T> lookup(final Key key,
+        final Supplier<CompletableFuture<T>> request) {
+        final CompletableFuture<T> res;
+        if (this.missing.contains(key)) {
+            res = new CompletableFuture<>();
+            res.completeExceptionally(new ValueNotFoundException(key));
+        } else {
+            final long start = this.missing.epoch();
+            res = request.get().whenComplete(
+                (value, err) -> {
+                    if (err != null && new NotFoundError(err).matches()) {
+                        this.missing.add(key, start);
+                    }
+                }
+            );
+        }
+        return res;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.asto;
+
+import com.artipie.asto.ValueNotFoundException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Error of storage operation, which may mean that storage item doesn't exist.
+ * <p>
+ * Storage returns failed future with {@link ValueNotFoundException} when
+ * value of missing item is requested, this class helps to handle missing items
+ * without separate {@code exists} request.
+ * </p>
+ * @since 0.12
+ */
+public final class NotFoundError {
+
+    /**
+     * Error.
+     */
+    private final Throwable error;
+
+    /**
+     * Ctor.
+     * @param error Error
+     */
+    public NotFoundError(final Throwable error) {
+        this.error = error;
+    }
+
+    /**
+     * Whether error means that storage item doesn't exist.
+     * @return True if item was not found
+     */
+    public boolean matches() {
+        Throwable cause = this.error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+            && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof ValueNotFoundException;
+    }
+
+    /**
+     * Error as unchecked exception to rethrow.
+     * @return Completion exception
+     */
+    public CompletionException rethrow() {
+        final CompletionException res;
+        if (this.error instanceof CompletionException) {
+            res = (CompletionException) this.error;
+        } else {
+            res = new CompletionException(this.error);
+        }
+        return res;
+    }
+}
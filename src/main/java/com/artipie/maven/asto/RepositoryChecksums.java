@@ -26,10 +26,7 @@ package com.artipie.maven.asto;
 import com.artipie.asto.Content;
 import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
-import com.artipie.asto.ext.ContentDigest;
-import com.artipie.asto.ext.Digests;
 import com.artipie.asto.ext.PublisherAs;
-import com.artipie.asto.rx.RxStorageWrapper;
 import hu.akarnokd.rxjava2.interop.SingleInterop;
 import io.reactivex.Observable;
 import java.nio.charset.StandardCharsets;
@@ -37,8 +34,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -53,7 +50,7 @@ public final class RepositoryChecksums {
     /**
      * Supported checksum algorithms.
      */
-    private static final Set<String> SUPPORTED_ALGS = Collections.unmodifiableSet(
+    static final Set<String> SUPPORTED_ALGS = Collections.unmodifiableSet(
         new HashSet<>(Arrays.asList("sha512", "sha256", "sha1", "md5"))
     );
 
@@ -62,66 +59,115 @@ public final class RepositoryChecksums {
      */
     private final Storage repo;
 
+    /**
+     * Digests of saved items.
+     */
+    private final SavedDigests digests;
+
     /**
      * Repository checksums.
      * @param repo Repository storage
      */
     public RepositoryChecksums(final Storage repo) {
+        this(repo, new SavedDigests());
+    }
+
+    /**
+     * Repository checksums.
+     * @param repo Repository storage
+     * @param digests Digests of saved items, calculated by {@link DigestingStorage}
+     */
+    public RepositoryChecksums(final Storage repo, final SavedDigests digests) {
         this.repo = repo;
+        this.digests = digests;
     }
 
     /**
      * Checksums of artifact.
+     * <p>
+     * Known digests of artifact are used if present, otherwise checksum files
+     * are requested by known names in parallel, missing checksum files are skipped.
+     * </p>
      * @param artifact Artifact {@link Key}
      * @return Checksums future
      */
     public CompletionStage<? extends Map<String, String>> checksums(final Key artifact) {
-        final RxStorageWrapper rxsto = new RxStorageWrapper(this.repo);
-        return rxsto.list(artifact).flatMapObservable(Observable::fromIterable)
-            .filter(key -> SUPPORTED_ALGS.contains(extension(key)))
-            .flatMapSingle(
-                item -> SingleInterop.fromFuture(
-                    this.repo.value(item).thenCompose(pub -> new PublisherAs(pub).asciiString())
-                        .thenApply(hash -> new MapEntry<>(extension(item), hash))
-                )
-            ).reduce(
-                new HashMap<String, String>(),
-                (map, hash) -> {
-                    map.put(hash.getKey(), hash.getValue());
-                    return map;
-                }
-            ).to(SingleInterop.get());
+        return this.digests.get(artifact)
+            .<CompletionStage<Map<String, String>>>map(CompletableFuture::completedFuture)
+            .orElseGet(() -> this.read(artifact));
+    }
+
+    /**
+     * Read checksum files of artifact by known names in parallel,
+     * missing checksum files are skipped.
+     * @param artifact Artifact {@link Key}
+     * @return Checksums future
+     */
+    private CompletionStage<Map<String, String>> read(final Key artifact) {
+        return Observable.fromIterable(SUPPORTED_ALGS).flatMapSingle(
+            alg -> SingleInterop.fromFuture(
+                this.repo.value(new Key.From(String.format("%s.%s", artifact.string(), alg)))
+                    .thenCompose(pub -> new PublisherAs(pub).asciiString())
+                    .<Optional<Map.Entry<String, String>>>thenApply(
+                        hash -> Optional.of(new MapEntry<>(alg, hash))
+                    )
+                    .exceptionally(RepositoryChecksums::absent)
+            )
+        ).filter(Optional::isPresent).map(Optional::get).<Map<String, String>>reduce(
+            new HashMap<>(),
+            (map, hash) -> {
+                map.put(hash.getKey(), hash.getValue());
+                return map;
+            }
+        ).to(SingleInterop.get());
     }
 
     /**
      * Calculates and generates artifact checksum files.
+     * <p>
+     * Digests calculated when artifact was saved are used if known, otherwise
+     * artifact content is read once for all supported algorithms. Checksum
+     * files are saved in parallel.
+     * </p>
      * @param artifact Artifact
      * @return Completable action
      */
     public CompletionStage<Void> generate(final Key artifact) {
-        return CompletableFuture.allOf(
-            SUPPORTED_ALGS.stream().map(
-                alg -> this.repo.value(artifact).thenCompose(
-                    content -> new ContentDigest(
-                        content, Digests.valueOf(alg.toUpperCase(Locale.US))
-                    ).hex().thenCompose(
-                        hex -> this.repo.save(
-                            new Key.From(String.format("%s.%s", artifact.string(), alg)),
-                            new Content.From(hex.getBytes(StandardCharsets.UTF_8))
-                        )
-                    )
+        return this.digests.get(artifact)
+            .filter(known -> known.keySet().containsAll(SUPPORTED_ALGS))
+            .<CompletionStage<Map<String, String>>>map(CompletableFuture::completedFuture)
+            .orElseGet(
+                () -> this.repo.value(artifact).thenCompose(
+                    content -> new ContentDigests(content, SUPPORTED_ALGS).hex()
+                ).thenApply(
+                    hashes -> {
+                        this.digests.put(artifact, hashes);
+                        return hashes;
+                    }
                 )
-            ).toArray(CompletableFuture[]::new)
+            ).thenCompose(
+            hashes -> CompletableFuture.allOf(
+                hashes.entrySet().stream().map(
+                    hash -> this.repo.save(
+                        new Key.From(String.format("%s.%s", artifact.string(), hash.getKey())),
+                        new Content.From(hash.getValue().getBytes(StandardCharsets.UTF_8))
+                    )
+                ).toArray(CompletableFuture[]::new)
+            )
         );
     }
 
     /**
-     * Key extension.
-     * @param key Key
-     * @return Extension string
+     * Absent value for missing storage item, other errors are rethrown.
+     * @param err Error
+     * @param <T> Value type
+     * @return Empty optional
      */
-    private static String extension(final Key key) {
-        final String src = key.string();
-        return src.substring(src.lastIndexOf('.') + 1).toLowerCase(Locale.US);
+    private static <T> Optional<T> absent(final Throwable err) {
+        final NotFoundError missing = new NotFoundError(err);
+        if (!missing.matches()) {
+            throw missing.rethrow();
+        }
+        return Optional.empty();
     }
 }
@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.asto;
+
+import com.artipie.asto.Key;
+import com.artipie.maven.cache.LruCache;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Digests of storage items calculated while items were saved.
+ * <p>
+ * Allows to get item checksums without reading it from storage again,
+ * see {@link DigestingStorage}. Number of remembered items is limited,
+ * digests of least recently used items are forgotten first.
+ * </p>
+ * <p>
+ * Digests read from checksum files are remembered only if no digests were
+ * changed or forgotten since reading was started, see {@link #epoch()}, so
+ * checksums read before an item was changed are not kept.
+ * </p>
+ * @since 0.12
+ */
+public final class SavedDigests {
+
+    /**
+     * Default max number of items.
+     */
+    private static final int CAPACITY = 10_000;
+
+    /**
+     * Digests hex by algorithm name by key.
+     */
+    private final LruCache<String, Map<String, String>> cache;
+
+    /**
+     * Changes counter.
+     */
+    private final AtomicLong changes;
+
+    /**
+     * Ctor.
+     */
+    public SavedDigests() {
+        this(SavedDigests.CAPACITY);
+    }
+
+    /**
+     * Ctor.
+     * @param capacity Max number of items to remember digests for
+     */
+    public SavedDigests(final int capacity) {
+        this.cache = new LruCache<>(capacity);
+        this.changes = new AtomicLong();
+    }
+
+    /**
+     * Changes counter, it's increased on every digests change or removal.
+     * @return Current changes counter
+     */
+    public long epoch() {
+        return this.changes.get();
+    }
+
+    /**
+     * Digests of item.
+     * @param key Item key
+     * @return Digests hex by algorithm name if known
+     */
+    public Optional<Map<String, String>> get(final Key key) {
+        return this.cache.get(key.string());
+    }
+
+    /**
+     * Digest of item.
+     * @param key Item key
+     * @param alg Algorithm name, e.g. {@code sha1}
+     * @return Digest hex if known
+     */
+    public Optional<String> get(final Key key, final String alg) {
+        return this.get(key).map(digests -> digests.get(alg));
+    }
+
+    /**
+     * Remember item digests.
+     * @param key Item key
+     * @param digests Digests hex by algorithm name
+     */
+    public void put(final Key key, final Map<String, String> digests) {
+        synchronized (this.changes) {
+            this.changes.incrementAndGet();
+            this.cache.put(key.string(), digests);
+        }
+    }
+
+    /**
+     * Remember item digests if there were no changes since reading was started.
+     * @param key Item key
+     * @param digests Digests hex by algorithm name
+     * @param start Changes counter at the start of reading
+     */
+    public void put(final Key key, final Map<String, String> digests, final long start) {
+        synchronized (this.changes) {
+            if (this.changes.get() == start) {
+                this.cache.put(key.string(), digests);
+            }
+        }
+    }
+
+    /**
+     * Forget item digests.
+     * @param key Item key
+     */
+    public void remove(final Key key) {
+        synchronized (this.changes) {
+            this.changes.incrementAndGet();
+            this.cache.remove(key.string());
+        }
+    }
+}
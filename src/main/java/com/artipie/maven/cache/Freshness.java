@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.cache;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Freshness policy of proxied items.
+ * <p>
+ * Release artifacts ({@code jar} and {@code pom} files, their checksums and
+ * signatures in non-SNAPSHOT version directory) are immutable, they're always
+ * fresh once loaded. Metadata and SNAPSHOT items are fresh for limited time
+ * after they were loaded or revalidated. Other items are never fresh and
+ * have to be revalidated on each request. Load times are kept in memory,
+ * number of remembered items is limited, least recently used items are
+ * forgotten first.
+ * </p>
+ * @since 0.12
+ */
+public final class Freshness {
+
+    /**
+     * Default max number of remembered load times.
+     */
+    private static final int CAPACITY = 10_000;
+
+    /**
+     * Default time to live of metadata and SNAPSHOT items.
+     */
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    /**
+     * Release artifact path pattern.
+     */
+    private static final Pattern ARTIFACT = Pattern.compile(
+        ".*/(?<version>[^/]+)/[^/]+\\.(jar|pom)(\\.(md5|sha1|sha256|sha512|asc))?"
+    );
+
+    /**
+     * Metadata path pattern.
+     */
+    private static final Pattern METADATA = Pattern.compile(
+        ".*/maven-metadata\\.xml(\\.[a-z0-9]+)?"
+    );
+
+    /**
+     * SNAPSHOT item path pattern.
+     */
+    private static final Pattern SNAPSHOT = Pattern.compile(".*-SNAPSHOT/[^/]+");
+
+    /**
+     * Load time in nanos by path.
+     */
+    private final LruCache<String, Long> loaded;
+
+    /**
+     * Time to live of metadata and SNAPSHOT items in nanos.
+     */
+    private final long ttl;
+
+    /**
+     * Ctor.
+     */
+    public Freshness() {
+        this(Freshness.TTL);
+    }
+
+    /**
+     * Ctor.
+     * @param ttl Time to live of metadata and SNAPSHOT items
+     */
+    public Freshness(final Duration ttl) {
+        this(Freshness.CAPACITY, ttl);
+    }
+
+    /**
+     * Ctor.
+     * @param capacity Max number of remembered load times
+     * @param ttl Time to live of metadata and SNAPSHOT items
+     */
+    public Freshness(final int capacity, final Duration ttl) {
+        this.loaded = new LruCache<>(capacity);
+        this.ttl = ttl.toNanos();
+    }
+
+    /**
+     * Whether cached item can be served without revalidation.
+     * @param path Item path
+     * @return True if item is fresh
+     */
+    public boolean fresh(final String path) {
+        final boolean res;
+        if (Freshness.immutable(path)) {
+            res = true;
+        } else if (Freshness.expiring(path)) {
+            final long now = System.nanoTime();
+            res = this.loaded.get(path).filter(time -> now - time < this.ttl).isPresent();
+        } else {
+            res = false;
+        }
+        return res;
+    }
+
+    /**
+     * Remember that item was loaded from remote or revalidated.
+     * @param path Item path
+     */
+    public void loaded(final String path) {
+        if (Freshness.expiring(path)) {
+            this.loaded.put(path, System.nanoTime());
+        }
+    }
+
+    /**
+     * Whether item is immutable release artifact.
+     * @param path Item path
+     * @return True for release artifact
+     */
+    private static boolean immutable(final String path) {
+        final Matcher matcher = Freshness.ARTIFACT.matcher(path);
+        return matcher.matches() && !matcher.group("version").endsWith("-SNAPSHOT");
+    }
+
+    /**
+     * Whether item is fresh for limited time.
+     * @param path Item path
+     * @return True for metadata and SNAPSHOT items
+     */
+    private static boolean expiring(final String path) {
+        return Freshness.METADATA.matcher(path).matches()
+            || Freshness.SNAPSHOT.matcher(path).matches();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+
+/**
+ * Thread-safe in-memory cache with limited capacity,
+ * least recently used entries are evicted first.
+ * <p>
+ * Capacity is a max number of entries by default, or max total weight of
+ * values if weigher function is provided.
+ * </p>
+ * @param <K> Key type
+ * @param <V> Value type
+ * @since 0.12
+ */
+public final class LruCache<K, V> {
+
+    /**
+     * Max total weight of values.
+     */
+    private final long capacity;
+
+    /**
+     * Value weigher.
+     */
+    private final ToLongFunction<V> weigher;
+
+    /**
+     * Cached items in access order.
+     */
+    private final Map<K, V> items;
+
+    /**
+     * Current total weight of values.
+     */
+    private long weight;
+
+    /**
+     * Ctor.
+     * @param capacity Max number of entries
+     */
+    public LruCache(final int capacity) {
+        this(capacity, value -> 1L);
+    }
+
+    /**
+     * Ctor.
+     * @param capacity Max total weight of values
+     * @param weigher Value weigher
+     */
+    public LruCache(final long capacity, final ToLongFunction<V> weigher) {
+        this.capacity = capacity;
+        this.weigher = weigher;
+        this.items = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Get cached value.
+     * @param key Key
+     * @return Value if cached
+     */
+    public Optional<V> get(final K key) {
+        synchronized (this.items) {
+            return Optional.ofNullable(this.items.get(key));
+        }
+    }
+
+    /**
+     * Put value to cache.
+     * <p>
+     * Value heavier than cache capacity is not cached.
+     * </p>
+     * @param key Key
+     * @param value Value
+     */
+    public void put(final K key, final V value) {
+        synchronized (this.items) {
+            this.forget(this.items.put(key, value));
+            this.weight += this.weigher.applyAsLong(value);
+            final Iterator<V> values = this.items.values().iterator();
+            while (this.weight > this.capacity && values.hasNext()) {
+                this.forget(values.next());
+                values.remove();
+            }
+        }
+    }
+
+    /**
+     * Remove value from cache.
+     * @param key Key
+     */
+    public void remove(final K key) {
+        synchronized (this.items) {
+            this.forget(this.items.remove(key));
+        }
+    }
+
+    /**
+     * Subtract weight of value which is not cached anymore.
+     * @param value Removed value or null
+     */
+    private void forget(final V value) {
+        if (value != null) {
+            this.weight -= this.weigher.applyAsLong(value);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.cache;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Paths which were not found in remote repository.
+ * <p>
+ * Path is remembered for time of the first rule matching the path, paths
+ * which don't match any rule are not remembered. Number of remembered paths
+ * is limited, least recently used paths are forgotten first.
+ * </p>
+ * @since 0.12
+ */
+public final class NegativeCache {
+
+    /**
+     * Negative cache which doesn't remember any path.
+     */
+    public static final NegativeCache DISABLED = new NegativeCache(
+        0, Collections.emptyList()
+    );
+
+    /**
+     * Default max number of paths.
+     */
+    private static final int CAPACITY = 10_000;
+
+    /**
+     * Expiration time in nanos by path.
+     */
+    private final LruCache<String, Long> cache;
+
+    /**
+     * Time to live rules.
+     */
+    private final List<Ttl> rules;
+
+    /**
+     * Ctor with default rules: metadata and snapshots are remembered
+     * for a minute, other items are remembered for an hour.
+     */
+    public NegativeCache() {
+        this(
+            new Ttl(".*/maven-metadata\\.xml(\\.[a-z0-9]+)?", Duration.ofMinutes(1)),
+            new Ttl(".*-SNAPSHOT/.*", Duration.ofMinutes(1)),
+            new Ttl(".*", Duration.ofHours(1))
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param rules Time to live rules, the first matching rule is applied
+     */
+    public NegativeCache(final Ttl... rules) {
+        this(NegativeCache.CAPACITY, Arrays.asList(rules));
+    }
+
+    /**
+     * Ctor.
+     * @param capacity Max number of paths
+     * @param rules Time to live rules, the first matching rule is applied
+     */
+    public NegativeCache(final int capacity, final List<Ttl> rules) {
+        this.cache = new LruCache<>(Math.max(capacity, 1));
+        this.rules = rules;
+    }
+
+    /**
+     * Whether path is known to be missing.
+     * @param path Item path
+     * @return True if path was not found recently
+     */
+    public boolean contains(final String path) {
+        final long now = System.nanoTime();
+        return this.cache.get(path).filter(
+            expires -> {
+                final boolean alive = expires - now > 0;
+                if (!alive) {
+                    this.cache.remove(path);
+                }
+                return alive;
+            }
+        ).isPresent();
+    }
+
+    /**
+     * Remember missing path.
+     * @param path Item path
+     */
+    public void add(final String path) {
+        this.ttl(path).filter(ttl -> !ttl.isZero() && !ttl.isNegative()).ifPresent(
+            ttl -> this.cache.put(path, System.nanoTime() + ttl.toNanos())
+        );
+    }
+
+    /**
+     * Time to live for the path.
+     * @param path Item path
+     * @return Time of the first matching rule, empty if no rule matches
+     */
+    private Optional<Duration> ttl(final String path) {
+        return this.rules.stream().filter(rule -> rule.pattern.matcher(path).matches())
+            .findFirst().map(rule -> rule.time);
+    }
+
+    /**
+     * Time to live rule for paths matching the pattern.
+     * @since 0.12
+     */
+    public static final class Ttl {
+
+        /**
+         * Path pattern.
+         */
+        private final Pattern pattern;
+
+        /**
+         * Time to remember missing path.
+         */
+        private final Duration time;
+
+        /**
+         * Ctor.
+         * @param regex Path regular expression
+         * @param time Time to remember missing path
+         */
+        public Ttl(final String regex, final Duration time) {
+            this(Pattern.compile(regex), time);
+        }
+
+        /**
+         * Ctor.
+         * @param pattern Path pattern
+         * @param time Time to remember missing path
+         */
+        public Ttl(final Pattern pattern, final Duration time) {
+            this.pattern = pattern;
+            this.time = time;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalescing of concurrent operations by key.
+ * <p>
+ * The first operation for a key is run as a leader, operations for the same key
+ * started while leader is running wait for leader completion and run follower
+ * action then, e.g. read the result stored by leader. Next operation started
+ * after leader completion becomes a new leader.
+ * </p>
+ * @param <K> Key type
+ * @since 0.12
+ */
+public final class SingleFlight<K> {
+
+    /**
+     * Running leaders completion by key.
+     */
+    private final ConcurrentMap<K, CompletableFuture<Void>> running;
+
+    /**
+     * Ctor.
+     */
+    public SingleFlight() {
+        this.running = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Run operation.
+     * @param key Operation key
+     * @param leader Leader action
+     * @param follower Follower action, it's run after leader completion, even if leader failed
+     * @param <T> Result type
+     * @return Result future
+     */
+    public <T> CompletionStage<T> run(final K key, final Supplier<CompletionStage<T>> leader,
+        final Supplier<CompletionStage<T>> follower) {
+        final CompletableFuture<Void> mine = new CompletableFuture<>();
+        final CompletableFuture<Void> current = this.running.putIfAbsent(key, mine);
+        final CompletionStage<T> res;
+        if (current == null) {
+            res = CompletableFuture.completedFuture(key).thenCompose(
+                any -> leader.get()
+            ).whenComplete(
+                (value, err) -> {
+                    this.running.remove(key, mine);
+                    mine.complete(null);
+                }
+            );
+        } else {
+            res = current.thenCompose(nothing -> follower.get());
+        }
+        return res;
+    }
+}
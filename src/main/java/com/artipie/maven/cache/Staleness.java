@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.cache;
+
+import com.artipie.asto.cache.CacheControl;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Policy of serving stale cached items.
+ * <p>
+ * In stale-if-error mode cached item is served if revalidation failed, e.g.
+ * remote is not available or timed out. In stale-while-revalidate mode
+ * cached item is served immediately and refreshed in background, number of
+ * concurrent background refreshes is limited, refresh is skipped if limit
+ * is reached. Stale-while-revalidate mode implies stale-if-error.
+ * </p>
+ * @since 0.12
+ */
+public final class Staleness {
+
+    /**
+     * Stale items are never served.
+     */
+    public static final Staleness NONE = new Staleness(false, false, 0);
+
+    /**
+     * Stale items are served if revalidation failed.
+     */
+    public static final Staleness IF_ERROR = new Staleness(false, true, 0);
+
+    /**
+     * Default max number of concurrent background refreshes.
+     */
+    private static final int REFRESHES = 4;
+
+    /**
+     * Serve cached item and refresh it in background.
+     */
+    private final boolean revalidate;
+
+    /**
+     * Serve cached item if revalidation failed.
+     */
+    private final boolean error;
+
+    /**
+     * Background refreshes permits.
+     */
+    private final Semaphore refreshes;
+
+    /**
+     * Stale-while-revalidate policy with default refreshes limit.
+     */
+    public Staleness() {
+        this(Staleness.REFRESHES);
+    }
+
+    /**
+     * Stale-while-revalidate policy.
+     * @param refreshes Max number of concurrent background refreshes
+     */
+    public Staleness(final int refreshes) {
+        this(true, true, refreshes);
+    }
+
+    /**
+     * Ctor.
+     * @param revalidate Serve cached item and refresh it in background
+     * @param error Serve cached item if revalidation failed
+     * @param refreshes Max number of concurrent background refreshes
+     */
+    private Staleness(final boolean revalidate, final boolean error, final int refreshes) {
+        this.revalidate = revalidate;
+        this.error = error;
+        this.refreshes = new Semaphore(refreshes);
+    }
+
+    /**
+     * Cached item validation according to the policy.
+     * @param validation Cached item revalidation
+     * @param refresh Background refresh of cached item
+     * @return Cache control
+     */
+    public CacheControl control(final CacheControl validation,
+        final Supplier<? extends CompletionStage<?>> refresh) {
+        final CacheControl res;
+        if (this.revalidate) {
+            res = (item, cached) -> {
+                this.refresh(refresh);
+                return CompletableFuture.completedFuture(true);
+            };
+        } else if (this.error) {
+            res = (item, cached) -> validation.validate(item, cached)
+                .exceptionally(err -> true);
+        } else {
+            res = validation;
+        }
+        return res;
+    }
+
+    /**
+     * Start background refresh if limit is not reached.
+     * @param refresh Refresh action
+     */
+    private void refresh(final Supplier<? extends CompletionStage<?>> refresh) {
+        if (this.refreshes.tryAcquire()) {
+            CompletableFuture.completedFuture(refresh)
+                .thenCompose(action -> action.get().thenApply(any -> any))
+                .whenComplete((any, err) -> this.refreshes.release());
+        }
+    }
+}
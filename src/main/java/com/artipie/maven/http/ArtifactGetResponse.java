@@ -25,19 +25,29 @@ package com.artipie.maven.http;
 
 import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
+import com.artipie.http.Headers;
 import com.artipie.http.Response;
 import com.artipie.http.async.AsyncResponse;
+import com.artipie.http.rs.RsStatus;
 import com.artipie.http.rs.RsWithBody;
 import com.artipie.http.rs.RsWithHeaders;
+import com.artipie.http.rs.RsWithStatus;
 import com.artipie.http.rs.StandardRs;
+import com.artipie.maven.asto.NotFoundError;
 import com.artipie.maven.asto.RepositoryChecksums;
+import com.artipie.maven.asto.SavedDigests;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Artifact {@code GET} response.
  * <p>
  * It includes a body of artifact requested if exists. The code is:
  * {@code 200} if exist and {@code 404} otherwise.
- * Also, it contains artifact headers if it exits.
+ * Also, it contains artifact headers if it exits. Conditional request
+ * with {@code If-None-Match} matching artifact {@code sha1} checksum
+ * gets {@code 304} response without body.
  * </p>
  * @see ArtifactHeaders
  * @since 0.5
@@ -50,17 +60,47 @@ public final class ArtifactGetResponse extends Response.Wrap {
      * @param location Artifact location
      */
     public ArtifactGetResponse(final Storage storage, final Key location) {
+        this(storage, location, new SavedDigests());
+    }
+
+    /**
+     * New artifact response.
+     * @param storage Repository storage
+     * @param location Artifact location
+     * @param digests Known artifacts checksums
+     */
+    public ArtifactGetResponse(final Storage storage, final Key location,
+        final SavedDigests digests) {
+        this(storage, location, digests, Headers.EMPTY);
+    }
+
+    /**
+     * New artifact response.
+     * <p>
+     * Artifact content and checksums are requested in parallel,
+     * missing artifact value means {@code 404} response. Known checksums
+     * are taken from digests, checksums of found artifact are remembered.
+     * For conditional request checksums are requested first, artifact
+     * content is not requested if it's not modified.
+     * </p>
+     * @param storage Repository storage
+     * @param location Artifact location
+     * @param digests Known artifacts checksums
+     * @param headers Request headers
+     */
+    public ArtifactGetResponse(final Storage storage, final Key location,
+        final SavedDigests digests, final Iterable<Map.Entry<String, String>> headers) {
         super(
             new AsyncResponse(
-                storage.exists(location).thenApply(
-                    exists -> {
-                        final Response rsp;
-                        if (exists) {
-                            rsp = new OkResponse(storage, location);
-                        } else {
-                            rsp = StandardRs.NOT_FOUND;
+                ArtifactGetResponse.response(
+                    storage, location, digests, new IfNoneMatch(headers)
+                ).exceptionally(
+                    err -> {
+                        final NotFoundError missing = new NotFoundError(err);
+                        if (!missing.matches()) {
+                            throw missing.rethrow();
                         }
-                        return rsp;
+                        return StandardRs.NOT_FOUND;
                     }
                 )
             )
@@ -68,31 +108,84 @@ public final class ArtifactGetResponse extends Response.Wrap {
     }
 
     /**
-     * Ok {@code 200} response for {@code GET} request.
-     * @since 0.5
+     * Artifact response.
+     * @param storage Repository storage
+     * @param location Artifact location
+     * @param digests Known artifacts checksums
+     * @param cond Request condition
+     * @return Response future
      */
-    private static final class OkResponse extends Response.Wrap {
-        /**
-         * New response.
-         * @param storage Repository storage
-         * @param location Artifact location
-         */
-        OkResponse(final Storage storage, final Key location) {
-            super(
-                new AsyncResponse(
-                    storage.value(location).thenCombine(
-                        new RepositoryChecksums(storage).checksums(location),
-                        (body, checksums) ->
-                            new RsWithBody(
-                                new RsWithHeaders(
-                                    StandardRs.OK,
-                                    new ArtifactHeaders(location, checksums)
-                                ),
-                                body
-                            )
-                    )
-                )
+    private static CompletionStage<Response> response(final Storage storage,
+        final Key location, final SavedDigests digests, final IfNoneMatch cond) {
+        final long start = digests.epoch();
+        final CompletionStage<? extends Map<String, String>> checksums =
+            new RepositoryChecksums(storage, digests).checksums(location);
+        final CompletionStage<Response> res;
+        if (cond.present()) {
+            final boolean known = digests.get(location).isPresent();
+            res = checksums.thenCompose(
+                sums -> {
+                    final CompletionStage<Response> rsp;
+                    if (cond.matches(sums.get("sha1"))) {
+                        final CompletionStage<Boolean> exists;
+                        if (known) {
+                            exists = CompletableFuture.completedFuture(true);
+                        } else {
+                            exists = storage.exists(location);
+                        }
+                        rsp = exists.thenApply(
+                            found -> {
+                                final Response notmodified;
+                                if (found) {
+                                    notmodified = new RsWithHeaders(
+                                        new RsWithStatus(RsStatus.NOT_MODIFIED),
+                                        new ArtifactHeaders(location, sums)
+                                    );
+                                } else {
+                                    notmodified = StandardRs.NOT_FOUND;
+                                }
+                                return notmodified;
+                            }
+                        );
+                    } else {
+                        rsp = ArtifactGetResponse.content(
+                            storage, location, digests, start,
+                            CompletableFuture.completedFuture(sums)
+                        );
+                    }
+                    return rsp;
+                }
             );
+        } else {
+            res = ArtifactGetResponse.content(storage, location, digests, start, checksums);
         }
+        return res;
+    }
+
+    /**
+     * Artifact response with content.
+     * @param storage Repository storage
+     * @param location Artifact location
+     * @param digests Known artifacts checksums
+     * @param start Digests changes counter at the start of checksums reading
+     * @param checksums Artifact checksums future
+     * @return Response future
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static CompletionStage<Response> content(final Storage storage,
+        final Key location, final SavedDigests digests, final long start,
+        final CompletionStage<? extends Map<String, String>> checksums) {
+        return storage.value(location).thenCombine(
+            checksums,
+            (body, sums) -> {
+                if (!sums.isEmpty()) {
+                    digests.put(location, sums, start);
+                }
+                return new RsWithBody(
+                    new RsWithHeaders(StandardRs.OK, new ArtifactHeaders(location, sums)),
+                    body
+                );
+            }
+        );
     }
 }
@@ -25,17 +25,27 @@ package com.artipie.maven.http;
 
 import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
+import com.artipie.http.Headers;
 import com.artipie.http.Response;
 import com.artipie.http.async.AsyncResponse;
+import com.artipie.http.headers.ContentLength;
+import com.artipie.http.rs.RsStatus;
 import com.artipie.http.rs.RsWithHeaders;
+import com.artipie.http.rs.RsWithStatus;
 import com.artipie.http.rs.StandardRs;
+import com.artipie.maven.asto.NotFoundError;
 import com.artipie.maven.asto.RepositoryChecksums;
+import com.artipie.maven.asto.SavedDigests;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Artifact {@code HEAD} response.
  * <p>
  * It doesn't include a body, only status code for artifact: {@code 200} if exist and {@code 404}
- * otherwise. Also, it contains artifact headers if it exits.
+ * otherwise. Also, it contains artifact headers and {@code Content-Length} if it exits.
+ * Conditional request with {@code If-None-Match} matching artifact {@code sha1} checksum
+ * gets {@code 304}.
  * </p>
  * @see ArtifactHeaders
  * @since 0.5
@@ -48,44 +58,130 @@ public final class ArtifactHeadResponse extends Response.Wrap {
      * @param location Artifact location
      */
     public ArtifactHeadResponse(final Storage storage, final Key location) {
-        super(
-            new AsyncResponse(
-                storage.exists(location).thenApply(
-                    exists -> {
-                        final Response rsp;
-                        if (exists) {
-                            rsp = new OkResponse(storage, location);
-                        } else {
-                            rsp = StandardRs.NOT_FOUND;
-                        }
-                        return rsp;
-                    }
-                )
-            )
+        this(storage, location, new SavedDigests());
+    }
+
+    /**
+     * New artifact response.
+     * <p>
+     * Artifact existence and size are checked by one storage request.
+     * If artifact checksums are known, checksum files are not read,
+     * otherwise checksums of found artifact are remembered. Size is always
+     * requested from storage, since it's not known from digests.
+     * </p>
+     * @param storage Repository storage
+     * @param location Artifact location
+     * @param digests Known artifacts checksums
+     */
+    public ArtifactHeadResponse(final Storage storage, final Key location,
+        final SavedDigests digests) {
+        this(storage, location, digests, Headers.EMPTY);
+    }
+
+    /**
+     * New artifact response.
+     * <p>
+     * Artifact existence and size are checked by one storage request.
+     * If artifact checksums are known, checksum files are not read,
+     * otherwise checksums of found artifact are remembered. Size is always
+     * requested from storage, since it's not known from digests.
+     * </p>
+     * @param storage Repository storage
+     * @param location Artifact location
+     * @param digests Known artifacts checksums
+     * @param headers Request headers
+     */
+    public ArtifactHeadResponse(final Storage storage, final Key location,
+        final SavedDigests digests, final Iterable<Map.Entry<String, String>> headers) {
+        this(storage, location, digests, new IfNoneMatch(headers));
+    }
+
+    /**
+     * New artifact response.
+     * @param storage Repository storage
+     * @param location Artifact location
+     * @param digests Known artifacts checksums
+     * @param cond Request condition
+     */
+    private ArtifactHeadResponse(final Storage storage, final Key location,
+        final SavedDigests digests, final IfNoneMatch cond) {
+        super(new AsyncResponse(ArtifactHeadResponse.response(storage, location, digests, cond)));
+    }
+
+    /**
+     * Artifact response.
+     * <p>
+     * Checksums read from storage are remembered only if known digests were not
+     * changed while they were read.
+     * </p>
+     * @param storage Repository storage
+     * @param location Artifact location
+     * @param digests Known artifacts checksums
+     * @param cond Request condition
+     * @return Response future
+     */
+    private static CompletionStage<Response> response(final Storage storage,
+        final Key location, final SavedDigests digests, final IfNoneMatch cond) {
+        final long start = digests.epoch();
+        return storage.size(location).thenCombine(
+            new RepositoryChecksums(storage, digests).checksums(location),
+            (size, checksums) -> {
+                if (!checksums.isEmpty()) {
+                    digests.put(location, checksums, start);
+                }
+                return (Response) new OkResponse(location, size, checksums, cond);
+            }
+        ).exceptionally(
+            err -> {
+                final NotFoundError missing = new NotFoundError(err);
+                if (!missing.matches()) {
+                    throw missing.rethrow();
+                }
+                return StandardRs.NOT_FOUND;
+            }
         );
     }
 
     /**
-     * Ok {@code 200} response for {@code HEAD} request.
+     * Ok {@code 200} or not modified {@code 304} response for {@code HEAD} request.
      * @since 0.5
      */
     private static final class OkResponse extends Response.Wrap {
 
         /**
          * New response.
-         * @param storage Repository storage
          * @param location Artifact location
+         * @param size Artifact size
+         * @param checksums Artifact checksums
+         * @param cond Request condition
+         * @checkstyle ParameterNumberCheck (5 lines)
          */
-        OkResponse(final Storage storage, final Key location) {
+        OkResponse(final Key location, final long size, final Map<String, String> checksums,
+            final IfNoneMatch cond) {
             super(
-                new AsyncResponse(
-                    new RepositoryChecksums(storage).checksums(location).thenApply(
-                        checksums -> new RsWithHeaders(
-                            StandardRs.OK, new ArtifactHeaders(location, checksums)
-                        )
+                new RsWithHeaders(
+                    OkResponse.status(cond.matches(checksums.get("sha1"))),
+                    new Headers.From(
+                        new ArtifactHeaders(location, checksums),
+                        new ContentLength(size)
                     )
                 )
             );
         }
+
+        /**
+         * Response status.
+         * @param matches Whether request condition matches artifact
+         * @return Not modified response if condition matches, ok otherwise
+         */
+        private static Response status(final boolean matches) {
+            final Response res;
+            if (matches) {
+                res = new RsWithStatus(RsStatus.NOT_MODIFIED);
+            } else {
+                res = StandardRs.OK;
+            }
+            return res;
+        }
     }
 }
@@ -38,6 +38,8 @@ import org.eclipse.jetty.http.MimeTypes;
  * <p>
  * Maven client supports {@code X-Checksum-*} headers for different hash algorithms,
  * {@code ETag} header for caching, {@code Content-Type} and {@code Content-Disposition}.
+ * Range requests are not supported, so {@code Accept-Ranges: none} is declared
+ * to let download clients know that partial content can't be requested.
  * </p>
  * @since 0.5
  */
@@ -53,7 +55,8 @@ final class ArtifactHeaders extends Headers.Wrap {
             new Headers.From(
                 checksumsHeader(checksums),
                 contentDisposition(location),
-                contentType(location)
+                contentType(location),
+                new Header("Accept-Ranges", "none")
             )
         );
     }
@@ -27,34 +27,53 @@ import com.artipie.asto.Content;
 import com.artipie.asto.Key;
 import com.artipie.asto.cache.Cache;
 import com.artipie.asto.cache.CacheControl;
-import com.artipie.asto.cache.DigestVerification;
 import com.artipie.asto.cache.Remote;
-import com.artipie.asto.ext.Digests;
 import com.artipie.http.Headers;
 import com.artipie.http.Response;
 import com.artipie.http.Slice;
 import com.artipie.http.async.AsyncResponse;
-import com.artipie.http.headers.Header;
+import com.artipie.http.headers.ContentLength;
 import com.artipie.http.rq.RequestLineFrom;
+import com.artipie.http.rq.RqHeaders;
+import com.artipie.http.rs.RsStatus;
 import com.artipie.http.rs.RsWithBody;
+import com.artipie.http.rs.RsWithHeaders;
 import com.artipie.http.rs.StandardRs;
 import com.artipie.http.slice.KeyFromPath;
+import com.artipie.maven.cache.Freshness;
+import com.artipie.maven.cache.NegativeCache;
+import com.artipie.maven.cache.SingleFlight;
+import com.artipie.maven.cache.Staleness;
 import io.reactivex.Flowable;
+import io.reactivex.disposables.Disposable;
 import java.nio.ByteBuffer;
-import java.util.Locale;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
-import org.apache.commons.codec.DecoderException;
-import org.apache.commons.codec.binary.Hex;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import org.reactivestreams.Publisher;
 
 /**
  * Maven proxy slice with cache support.
+ * <p>
+ * Cache miss costs single remote {@code GET} request, downloaded content
+ * is verified with checksum headers of the same response. Cached content is
+ * revalidated with checksum headers of remote {@code HEAD} response unless
+ * it's fresh according to {@link Freshness} policy, stale content may be
+ * served according to {@link Staleness} policy.
+ * Concurrent requests for the same item are coalesced: one request loads
+ * the item to cache, others wait for it and read the item from cache
+ * without revalidation. Content loaded from remote is sent to the client
+ * while it's written to the cache. Paths not found in remote are remembered
+ * in negative cache, such paths are answered with {@code 404} without
+ * remote requests.
+ * </p>
  * @since 0.5
  * @todo #146:30min Create integration test for cached proxy:
  *  the test starts new server instance and serves HEAD requests for artifact with checksum
@@ -71,20 +90,9 @@ import org.reactivestreams.Publisher;
 final class CachedProxySlice implements Slice {
 
     /**
-     * Checksum header pattern.
+     * Default time for the client to start reading remote content.
      */
-    private static final Pattern CHECKSUM_PATTERN =
-        Pattern.compile("x-checksum-(sha1|sha256|sha512|md5)", Pattern.CASE_INSENSITIVE);
-
-    /**
-     * Translation of checksum headers to digest algorithms.
-     */
-    private static final Map<String, String> DIGEST_NAMES = Map.of(
-        "sha1", "SHA-1",
-        "sha256", "SHA-256",
-        "sha512", "SHA-512",
-        "md5", "MD5"
-    );
+    private static final Duration ATTACH = Duration.ofMinutes(1);
 
     /**
      * Origin slice.
@@ -96,98 +104,435 @@ final class CachedProxySlice implements Slice {
      */
     private final Cache cache;
 
+    /**
+     * Paths not found in remote.
+     */
+    private final NegativeCache misses;
+
+    /**
+     * Freshness policy of cached items.
+     */
+    private final Freshness freshness;
+
+    /**
+     * Checksum headers of cached items.
+     */
+    private final RemoteChecksums checksums;
+
+    /**
+     * Policy of serving stale cached items.
+     */
+    private final Staleness staleness;
+
+    /**
+     * Time for the client to start reading remote content.
+     */
+    private final Duration attach;
+
+    /**
+     * Cache loads coalescing by item key string, storage keys
+     * built from path don't implement equality.
+     */
+    private final SingleFlight<String> loads;
+
     /**
      * Wraps origin slice with caching layer.
      * @param client Client slice
      * @param cache Cache
      */
     CachedProxySlice(final Slice client, final Cache cache) {
+        this(client, cache, new NegativeCache());
+    }
+
+    /**
+     * Wraps origin slice with caching layer.
+     * @param client Client slice
+     * @param cache Cache
+     * @param misses Paths not found in remote
+     */
+    CachedProxySlice(final Slice client, final Cache cache, final NegativeCache misses) {
+        this(client, cache, misses, new Freshness());
+    }
+
+    /**
+     * Wraps origin slice with caching layer.
+     * @param client Client slice
+     * @param cache Cache
+     * @param misses Paths not found in remote
+     * @param freshness Freshness policy of cached items
+     */
+    CachedProxySlice(final Slice client, final Cache cache, final NegativeCache misses,
+        final Freshness freshness) {
+        this(client, cache, misses, freshness, new RemoteChecksums());
+    }
+
+    /**
+     * Wraps origin slice with caching layer.
+     * @param client Client slice
+     * @param cache Cache
+     * @param misses Paths not found in remote
+     * @param freshness Freshness policy of cached items
+     * @param checksums Checksum headers of cached items
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    CachedProxySlice(final Slice client, final Cache cache, final NegativeCache misses,
+        final Freshness freshness, final RemoteChecksums checksums) {
+        this(client, cache, misses, freshness, checksums, Staleness.IF_ERROR);
+    }
+
+    /**
+     * Wraps origin slice with caching layer.
+     * @param client Client slice
+     * @param cache Cache
+     * @param misses Paths not found in remote
+     * @param freshness Freshness policy of cached items
+     * @param checksums Checksum headers of cached items
+     * @param staleness Policy of serving stale cached items
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    CachedProxySlice(final Slice client, final Cache cache, final NegativeCache misses,
+        final Freshness freshness, final RemoteChecksums checksums, final Staleness staleness) {
+        this(client, cache, misses, freshness, checksums, staleness, CachedProxySlice.ATTACH);
+    }
+
+    /**
+     * Wraps origin slice with caching layer.
+     * @param client Client slice
+     * @param cache Cache
+     * @param misses Paths not found in remote
+     * @param freshness Freshness policy of cached items
+     * @param checksums Checksum headers of cached items
+     * @param staleness Policy of serving stale cached items
+     * @param attach Time for the client to start reading remote content
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    CachedProxySlice(final Slice client, final Cache cache, final NegativeCache misses,
+        final Freshness freshness, final RemoteChecksums checksums, final Staleness staleness,
+        final Duration attach) {
         this.client = client;
         this.cache = cache;
+        this.misses = misses;
+        this.freshness = freshness;
+        this.checksums = checksums;
+        this.staleness = staleness;
+        this.attach = attach;
+        this.loads = new SingleFlight<>();
     }
 
     @Override
     public Response response(final String line, final Iterable<Map.Entry<String, String>> headers,
         final Publisher<ByteBuffer> body) {
-        final RequestLineFrom req = new RequestLineFrom(line);
-        final Key key = new KeyFromPath(req.uri().getPath());
-        return new AsyncResponse(
-            new RepoHead(this.client)
-                .head(req.uri().getPath()).thenCompose(
-                    head -> this.cache.load(
-                        key,
-                        new Remote.WithErrorHandling(
+        final String path = new RequestLineFrom(line).uri().getPath();
+        final Response res;
+        if (this.misses.contains(path)) {
+            res = StandardRs.NOT_FOUND;
+        } else {
+            res = this.load(line, path);
+        }
+        return res;
+    }
+
+    /**
+     * Load item from cache or remote.
+     * @param line Request line
+     * @param path Item path
+     * @return Response
+     */
+    private Response load(final String line, final String path) {
+        final Key key = new KeyFromPath(path);
+        final CompletableFuture<Response> result = new CompletableFuture<>();
+        final AtomicReference<Content> teed = new AtomicReference<>();
+        final Remote remote = new Remote.WithErrorHandling(
+            () -> this.remote(line, result, teed)
+        );
+        this.loads.run(
+            key.string(),
+            () -> this.cached(key, this.revalidation(line, path), remote),
+            () -> this.cached(key, CacheControl.Standard.ALWAYS, remote)
+        ).handle(
+            (content, throwable) -> {
+                if (result.isDone()) {
+                    CachedProxySlice.release(teed.get(), content, throwable);
+                } else if (throwable == null && content.isPresent()) {
+                    result.complete(
+                        new RsWithBody(StandardRs.OK, new Content.From(content.get()))
+                    );
+                } else {
+                    result.complete(StandardRs.NOT_FOUND);
+                }
+                return null;
+            }
+        );
+        return new AsyncResponse(result);
+    }
+
+    /**
+     * Load item from cache, load it from remote only if it's not cached or not valid.
+     * <p>
+     * Cache may request remote before checking cached item, so cache is asked
+     * for cached item with empty remote first.
+     * </p>
+     * @param key Item key
+     * @param control Cached item validation
+     * @param remote Remote content
+     * @return Content future, empty if not found
+     */
+    private CompletionStage<Optional<? extends Content>> cached(final Key key,
+        final CacheControl control, final Remote remote) {
+        return this.cache.load(key, Remote.EMPTY, control).thenCompose(
+            cached -> {
+                final CompletionStage<Optional<? extends Content>> res;
+                if (cached.isPresent()) {
+                    res = CompletableFuture.completedFuture(cached);
+                } else {
+                    res = this.cache.load(key, remote, CacheControl.Standard.NO_CACHE);
+                }
+                return res;
+            }
+        );
+    }
+
+    /**
+     * Content from remote verified with checksum headers of response.
+     * <p>
+     * Remote content is teed: it's sent to the client as soon as remote
+     * responds and it's provided to the cache at the same time, so the client
+     * doesn't wait for the cache write. Both client and cache have to read the
+     * content, it's read at the pace of the slowest reader. Each reader verifies
+     * the bytes it reads, content which doesn't match checksum fails at the end
+     * for both readers, so it's not cached and client download fails. Client
+     * response has remote {@code Content-Length} and checksum headers. If the
+     * client doesn't start reading the content in time, client copy is drained,
+     * so the cache is not blocked, and client reading fails.
+     * </p>
+     * @param line Request line
+     * @param client Client response promise
+     * @param teed Content provided to the cache
+     * @return Content future, empty if not found
+     */
+    private CompletionStage<Optional<? extends Content>> remote(final String line,
+        final CompletableFuture<Response> client, final AtomicReference<Content> teed) {
+        final String path = new RequestLineFrom(line).uri().getPath();
+        final CompletableFuture<Optional<? extends Content>> promise = new CompletableFuture<>();
+        this.client.response(line, Headers.EMPTY, Content.EMPTY).send(
+            (rsstatus, rsheaders, rsbody) -> {
+                final CompletableFuture<Void> term = new CompletableFuture<>();
+                if (rsstatus.success()) {
+                    final ChecksumHeaders sums = new ChecksumHeaders(rsheaders);
+                    final Flowable<ByteBuffer> shared = CachedProxySlice.tee(
+                        Flowable.fromPublisher(rsbody)
+                            .doOnComplete(() -> term.complete(null))
+                            .doOnError(term::completeExceptionally)
+                            .doOnCancel(() -> term.complete(null))
+                    );
+                    final Optional<Long> size = CachedProxySlice.size(rsheaders);
+                    final Content content = new Content.From(
+                        size,
+                        sums.verify(shared).doOnComplete(
                             () -> {
-                                final CompletableFuture<Optional<? extends Content>> promise =
-                                    new CompletableFuture<>();
-                                this.client.response(line, Headers.EMPTY, Content.EMPTY).send(
-                                    (rsstatus, rsheaders, rsbody) -> {
-                                        final CompletableFuture<Void> term =
-                                            new CompletableFuture<>();
-                                        if (rsstatus.success()) {
-                                            final Flowable<ByteBuffer> res =
-                                                Flowable.fromPublisher(rsbody)
-                                                .doOnError(term::completeExceptionally)
-                                                .doOnTerminate(() -> term.complete(null));
-                                            promise.complete(Optional.of(new Content.From(res)));
-                                        } else {
-                                            promise.complete(Optional.empty());
-                                        }
-                                        return term;
-                                    }
-                                );
-                                return promise;
+                                this.checksums.put(path, rsheaders);
+                                this.freshness.loaded(path);
                             }
-                        ),
-                        new CacheControl.All(
-                            StreamSupport.stream(
-                                head.orElse(Headers.EMPTY).spliterator(),
-                                false
-                            ).map(Header::new)
-                            .map(CachedProxySlice::checksumControl)
-                            .collect(Collectors.toUnmodifiableList())
                         )
-                    ).handle(
-                        (content, throwable) -> {
-                            final Response result;
-                            if (throwable == null && content.isPresent()) {
-                                result = new RsWithBody(
-                                    StandardRs.OK, new Content.From(content.get())
-                                );
-                            } else {
-                                result = StandardRs.NOT_FOUND;
-                            }
-                            return result;
-                        }
-                    )
-            )
+                    );
+                    teed.set(content);
+                    client.complete(
+                        new RsWithHeaders(
+                            new RsWithBody(
+                                StandardRs.OK,
+                                new Content.From(size, sums.verify(this.attached(shared)))
+                            ),
+                            sums.checksums()
+                        )
+                    );
+                    promise.complete(Optional.of(content));
+                } else {
+                    if (rsstatus == RsStatus.NOT_FOUND) {
+                        this.misses.add(path);
+                    }
+                    promise.complete(Optional.empty());
+                    Flowable.fromPublisher(rsbody).ignoreElements().onErrorComplete()
+                        .subscribe(() -> term.complete(null));
+                }
+                return term;
+            }
         );
+        return promise;
     }
 
     /**
-     * Checksum cache control verification.
-     * @param header Checksum header
-     * @return Cache control with digest
+     * Content size from remote response headers.
+     * @param headers Response headers
+     * @return Size if {@code Content-Length} header is present
      */
-    private static CacheControl checksumControl(final Header header) {
-        final Matcher matcher = CachedProxySlice.CHECKSUM_PATTERN.matcher(header.getKey());
-        final CacheControl res;
-        if (matcher.matches()) {
-            try {
-                res = new DigestVerification(
-                    new Digests.FromString(
-                        CachedProxySlice.DIGEST_NAMES.get(
-                            matcher.group(1).toLowerCase(Locale.US)
-                        )
-                    ).get(),
-                    Hex.decodeHex(header.getValue().toCharArray())
-                );
-            } catch (final DecoderException err) {
-                throw new IllegalStateException("Invalid digest hex", err);
+    private static Optional<Long> size(final Iterable<Map.Entry<String, String>> headers) {
+        return new RqHeaders(headers, ContentLength.NAME).stream().findFirst()
+            .map(String::trim).map(Long::parseLong);
+    }
+
+    /**
+     * Content shared by two readers.
+     * <p>
+     * Remote is read once both readers subscribed, each reader gets its own
+     * read-only views of remote buffers, so reading by one doesn't move buffer
+     * positions of another. Remote reading is cancelled if both readers cancelled.
+     * </p>
+     * @param remote Remote content
+     * @return Teed content
+     */
+    private static Flowable<ByteBuffer> tee(final Flowable<ByteBuffer> remote) {
+        final AtomicReference<Disposable> connection = new AtomicReference<>();
+        final AtomicInteger readers = new AtomicInteger(2);
+        return remote.publish()
+            .autoConnect(2, connection::set)
+            .map(ByteBuffer::asReadOnlyBuffer)
+            .doOnCancel(
+                () -> {
+                    if (readers.decrementAndGet() == 0) {
+                        connection.get().dispose();
+                    }
+                }
+            );
+    }
+
+    /**
+     * Client copy of teed content, which is drained if the client doesn't
+     * start reading it in time.
+     * @param shared Teed content
+     * @return Client content
+     */
+    private Flowable<ByteBuffer> attached(final Flowable<ByteBuffer> shared) {
+        final AtomicBoolean claimed = new AtomicBoolean();
+        CompletableFuture.runAsync(
+            () -> {
+                if (claimed.compareAndSet(false, true)) {
+                    shared.ignoreElements().onErrorComplete().subscribe();
+                }
+            },
+            CompletableFuture.delayedExecutor(this.attach.toMillis(), TimeUnit.MILLISECONDS)
+        );
+        return Flowable.defer(
+            () -> {
+                final Flowable<ByteBuffer> res;
+                if (claimed.compareAndSet(false, true)) {
+                    res = shared;
+                } else {
+                    res = Flowable.error(
+                        new IllegalStateException("Remote content was not read in time")
+                    );
+                }
+                return res;
             }
-        } else {
+        );
+    }
+
+    /**
+     * Release teed content after cache load completion.
+     * <p>
+     * If cache failed or returned teed content back without reading it,
+     * teed content is drained, so the client copy is not blocked.
+     * </p>
+     * @param teed Content provided to the cache, may be null
+     * @param loaded Cache load result, null on failure
+     * @param error Cache load error, null on success
+     */
+    private static void release(final Content teed,
+        final Optional<? extends Content> loaded, final Throwable error) {
+        if (teed != null && (error != null || loaded.filter(teed::equals).isPresent())) {
+            Flowable.fromPublisher(teed).ignoreElements().onErrorComplete().subscribe();
+        }
+    }
+
+    /**
+     * Refresh cached item in background.
+     * <p>
+     * Refresh is run after current load of the item, remote content is not
+     * sent to any client. Cached item is kept if revalidation failed.
+     * </p>
+     * @param line Request line
+     * @param path Item path
+     * @return Refresh completion
+     */
+    private CompletionStage<Optional<? extends Content>> refresh(final String line,
+        final String path) {
+        final Key key = new KeyFromPath(path);
+        final CompletableFuture<Response> ignored = new CompletableFuture<>();
+        ignored.thenAccept(CachedProxySlice::drain);
+        final AtomicReference<Content> teed = new AtomicReference<>();
+        final CacheControl control = this.revalidation(path);
+        final Supplier<CompletionStage<Optional<? extends Content>>> task =
+            () -> this.cached(
+                key,
+                (item, cached) -> control.validate(item, cached).exceptionally(err -> true),
+                new Remote.WithErrorHandling(() -> this.remote(line, ignored, teed))
+            ).whenComplete(
+                (loaded, err) -> CachedProxySlice.release(teed.get(), loaded, err)
+            );
+        return this.loads.run(key.string(), task, task);
+    }
+
+    /**
+     * Drain response body.
+     * @param response Response
+     */
+    private static void drain(final Response response) {
+        response.send(
+            (status, headers, body) -> {
+                Flowable.fromPublisher(body).ignoreElements().onErrorComplete().subscribe();
+                return CompletableFuture.allOf();
+            }
+        );
+    }
+
+    /**
+     * Cached content validation.
+     * <p>
+     * Fresh content is served without revalidation, stale content is
+     * revalidated according to {@link Staleness} policy.
+     * </p>
+     * @param line Request line
+     * @param path Item path
+     * @return Cache control
+     */
+    private CacheControl revalidation(final String line, final String path) {
+        final CacheControl res;
+        if (this.freshness.fresh(path)) {
             res = CacheControl.Standard.ALWAYS;
+        } else {
+            res = this.staleness.control(
+                this.revalidation(path), () -> this.refresh(line, path)
+            );
         }
         return res;
     }
+
+    /**
+     * Cached content revalidation.
+     * <p>
+     * Remote {@code HEAD} request is sent only if content is cached, cached
+     * content is verified with checksum headers of the response. Cached content
+     * is not valid if remote doesn't have it, revalidation fails on other remote
+     * errors. Content is fresh again only if it matched some checksum.
+     * </p>
+     * @param path Item path
+     * @return Cache control
+     */
+    private CacheControl revalidation(final String path) {
+        return (item, cached) -> new RepoHead(this.client).head(path).thenCompose(
+            head -> head.<CompletionStage<Boolean>>map(
+                rsheaders -> {
+                    final ChecksumHeaders checksums = new ChecksumHeaders(rsheaders);
+                    return checksums.control().validate(item, cached).thenApply(
+                        valid -> {
+                            if (valid && checksums.checksums().iterator().hasNext()) {
+                                this.checksums.put(path, rsheaders);
+                                this.freshness.loaded(path);
+                            }
+                            return valid;
+                        }
+                    );
+                }
+            ).orElseGet(() -> CompletableFuture.completedFuture(false))
+        );
+    }
 }
@@ -0,0 +1,220 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.http;
+
+import com.artipie.asto.cache.CacheControl;
+import com.artipie.asto.cache.DigestVerification;
+import com.artipie.asto.ext.Digests;
+import com.artipie.http.Headers;
+import com.artipie.http.headers.Header;
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.apache.commons.codec.DecoderException;
+import org.apache.commons.codec.binary.Hex;
+import org.reactivestreams.Publisher;
+
+/**
+ * Checksum headers of remote repository response.
+ * <p>
+ * Remote repositories send artifact checksums in {@code X-Checksum-*}
+ * headers, they are used to verify cached content and content downloaded
+ * from remote.
+ * </p>
+ * @since 0.12
+ */
+final class ChecksumHeaders {
+
+    /**
+     * Checksum header pattern.
+     */
+    private static final Pattern CHECKSUM_PATTERN =
+        Pattern.compile("x-checksum-(sha1|sha256|sha512|md5)", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * Translation of checksum headers to digest algorithms.
+     */
+    private static final Map<String, String> DIGEST_NAMES = Map.of(
+        "sha1", "SHA-1",
+        "sha256", "SHA-256",
+        "sha512", "SHA-512",
+        "md5", "MD5"
+    );
+
+    /**
+     * Checksum algorithms from the strongest to the weakest.
+     */
+    private static final List<String> STRENGTH = Arrays.asList("sha512", "sha256", "sha1", "md5");
+
+    /**
+     * Response headers.
+     */
+    private final Iterable<Map.Entry<String, String>> headers;
+
+    /**
+     * Ctor.
+     * @param headers Response headers
+     */
+    ChecksumHeaders(final Iterable<Map.Entry<String, String>> headers) {
+        this.headers = headers;
+    }
+
+    /**
+     * Cache control which verifies cached content with all checksums.
+     * @return Cache control
+     */
+    CacheControl control() {
+        return new CacheControl.All(
+            StreamSupport.stream(this.headers.spliterator(), false)
+                .map(Header::new)
+                .map(ChecksumHeaders::checksumControl)
+                .collect(Collectors.toUnmodifiableList())
+        );
+    }
+
+    /**
+     * Checksum headers only.
+     * @return Checksum headers
+     */
+    Headers checksums() {
+        return new Headers.From(
+            StreamSupport.stream(this.headers.spliterator(), false)
+                .filter(
+                    header -> ChecksumHeaders.CHECKSUM_PATTERN.matcher(header.getKey()).matches()
+                )
+                .collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * Body verified with the strongest checksum.
+     * <p>
+     * Digest is calculated while body is read, body fails at the end if
+     * digest doesn't match checksum. Body without checksum headers is not verified.
+     * </p>
+     * @param body Response body
+     * @return Verified body
+     */
+    Flowable<ByteBuffer> verify(final Publisher<ByteBuffer> body) {
+        return this.strongest().map(
+            checksum -> Flowable.defer(
+                () -> {
+                    final MessageDigest digest = ChecksumHeaders.digest(checksum.getKey());
+                    return Flowable.fromPublisher(body)
+                        .doOnNext(buf -> digest.update(buf.duplicate()))
+                        .concatWith(
+                            Completable.fromAction(
+                                () -> {
+                                    if (!MessageDigest.isEqual(
+                                        digest.digest(), ChecksumHeaders.hex(checksum.getValue())
+                                    )) {
+                                        throw new IllegalStateException(
+                                            String.format(
+                                                "Content doesn't match %s checksum",
+                                                checksum.getKey()
+                                            )
+                                        );
+                                    }
+                                }
+                            )
+                        );
+                }
+            )
+        ).orElseGet(() -> Flowable.fromPublisher(body));
+    }
+
+    /**
+     * The strongest checksum from headers.
+     * @return Algorithm name and checksum hex if present
+     */
+    private Optional<Map.Entry<String, String>> strongest() {
+        Optional<Map.Entry<String, String>> res = Optional.empty();
+        int rank = ChecksumHeaders.STRENGTH.size();
+        for (final Map.Entry<String, String> header : this.headers) {
+            final Matcher matcher = ChecksumHeaders.CHECKSUM_PATTERN.matcher(header.getKey());
+            if (matcher.matches()) {
+                final String alg = matcher.group(1).toLowerCase(Locale.US);
+                final int current = ChecksumHeaders.STRENGTH.indexOf(alg);
+                if (current < rank) {
+                    rank = current;
+                    res = Optional.of(Map.entry(alg, header.getValue().trim()));
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Checksum cache control verification.
+     * @param header Checksum header
+     * @return Cache control with digest
+     */
+    private static CacheControl checksumControl(final Header header) {
+        final Matcher matcher = ChecksumHeaders.CHECKSUM_PATTERN.matcher(header.getKey());
+        final CacheControl res;
+        if (matcher.matches()) {
+            res = new DigestVerification(
+                new Digests.FromString(
+                    ChecksumHeaders.DIGEST_NAMES.get(matcher.group(1).toLowerCase(Locale.US))
+                ).get(),
+                ChecksumHeaders.hex(header.getValue())
+            );
+        } else {
+            res = CacheControl.Standard.ALWAYS;
+        }
+        return res;
+    }
+
+    /**
+     * New message digest for checksum algorithm.
+     * @param alg Checksum algorithm, e.g. {@code sha1}
+     * @return Message digest
+     */
+    private static MessageDigest digest(final String alg) {
+        return new Digests.FromString(ChecksumHeaders.DIGEST_NAMES.get(alg)).get().get();
+    }
+
+    /**
+     * Decode checksum hex.
+     * @param hex Checksum hex
+     * @return Checksum bytes
+     */
+    private static byte[] hex(final String hex) {
+        try {
+            return Hex.decodeHex(hex.trim().toCharArray());
+        } catch (final DecoderException err) {
+            throw new IllegalStateException("Invalid digest hex", err);
+        }
+    }
+}
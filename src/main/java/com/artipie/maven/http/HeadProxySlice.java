@@ -24,20 +24,39 @@
 package com.artipie.maven.http;
 
 import com.artipie.asto.Content;
+import com.artipie.asto.cache.Cache;
+import com.artipie.asto.cache.CacheControl;
+import com.artipie.asto.cache.Remote;
 import com.artipie.http.Headers;
 import com.artipie.http.Response;
 import com.artipie.http.Slice;
 import com.artipie.http.async.AsyncResponse;
+import com.artipie.http.headers.ContentLength;
+import com.artipie.http.rq.RequestLineFrom;
+import com.artipie.http.rs.RsStatus;
 import com.artipie.http.rs.RsWithHeaders;
 import com.artipie.http.rs.RsWithStatus;
+import com.artipie.http.rs.StandardRs;
+import com.artipie.http.slice.KeyFromPath;
+import com.artipie.maven.cache.Freshness;
+import com.artipie.maven.cache.NegativeCache;
 import java.nio.ByteBuffer;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import org.reactivestreams.Publisher;
 
 /**
  * Head slice for Maven proxy.
+ * <p>
+ * Fresh cached items are answered from cache with content length and
+ * checksum headers remembered on item load, remote {@code HEAD} request
+ * is sent only if item is not cached or not fresh. Paths not found in
+ * remote are remembered in negative cache.
+ * </p>
  * @since 0.5
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
  */
 final class HeadProxySlice implements Slice {
 
@@ -46,24 +65,114 @@ final class HeadProxySlice implements Slice {
      */
     private final Slice client;
 
+    /**
+     * Cache.
+     */
+    private final Cache cache;
+
+    /**
+     * Paths not found in remote.
+     */
+    private final NegativeCache misses;
+
+    /**
+     * Freshness policy of cached items.
+     */
+    private final Freshness freshness;
+
+    /**
+     * Checksum headers of cached items.
+     */
+    private final RemoteChecksums checksums;
+
     /**
      * New slice for {@code HEAD} requests.
      * @param client HTTP client slice
      */
     HeadProxySlice(final Slice client) {
+        this(client, Cache.NOP, new NegativeCache(), new Freshness(), new RemoteChecksums());
+    }
+
+    /**
+     * New slice for {@code HEAD} requests.
+     * @param client HTTP client slice
+     * @param cache Cache
+     * @param misses Paths not found in remote
+     * @param freshness Freshness policy of cached items
+     * @param checksums Checksum headers of cached items
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    HeadProxySlice(final Slice client, final Cache cache, final NegativeCache misses,
+        final Freshness freshness, final RemoteChecksums checksums) {
         this.client = client;
+        this.cache = cache;
+        this.misses = misses;
+        this.freshness = freshness;
+        this.checksums = checksums;
     }
 
     @Override
     public Response response(final String line, final Iterable<Map.Entry<String, String>> headers,
         final Publisher<ByteBuffer> body) {
+        final String path = new RequestLineFrom(line).uri().getPath();
+        final Response res;
+        if (this.misses.contains(path)) {
+            res = StandardRs.NOT_FOUND;
+        } else if (this.freshness.fresh(path)) {
+            res = new AsyncResponse(
+                this.cache.load(
+                    new KeyFromPath(path), Remote.EMPTY, CacheControl.Standard.ALWAYS
+                ).<Optional<? extends Content>>exceptionally(
+                    err -> Optional.empty()
+                ).thenCompose(
+                    cached -> cached.<CompletionStage<Response>>map(
+                        content -> CompletableFuture.completedFuture(
+                            this.cached(path, content)
+                        )
+                    ).orElseGet(() -> this.remote(line, path))
+                )
+            );
+        } else {
+            res = new AsyncResponse(this.remote(line, path));
+        }
+        return res;
+    }
+
+    /**
+     * Response for cached item.
+     * @param path Item path
+     * @param content Cached content, it's not read
+     * @return Response with content length and checksum headers
+     */
+    private Response cached(final String path, final Content content) {
+        return new RsWithHeaders(
+            StandardRs.OK,
+            new Headers.From(
+                this.checksums.get(path),
+                content.size().<Iterable<Map.Entry<String, String>>>map(
+                    size -> new Headers.From(new ContentLength(size))
+                ).orElse(Headers.EMPTY)
+            )
+        );
+    }
+
+    /**
+     * Remote {@code HEAD} response.
+     * @param line Request line
+     * @param path Item path
+     * @return Response with remote status and headers
+     */
+    private CompletionStage<Response> remote(final String line, final String path) {
         final CompletableFuture<Response> promise = new CompletableFuture<>();
         this.client.response(line, Headers.EMPTY, Content.EMPTY).send(
             (status, rsheaders, rsbody) -> {
+                if (status == RsStatus.NOT_FOUND) {
+                    this.misses.add(path);
+                }
                 promise.complete(new RsWithHeaders(new RsWithStatus(status), rsheaders));
                 return CompletableFuture.allOf();
             }
         );
-        return new AsyncResponse(promise);
+        return promise;
     }
 }
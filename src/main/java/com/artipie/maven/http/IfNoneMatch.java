@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.http;
+
+import com.artipie.http.rq.RqHeaders;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code If-None-Match} request condition.
+ * <p>
+ * Header value is a comma separated list of entity tags or {@code *}, tags
+ * are compared by weak comparison: {@code W/} prefix and quotes are ignored.
+ * </p>
+ * @since 0.12
+ */
+final class IfNoneMatch {
+
+    /**
+     * Header name.
+     */
+    private static final String NAME = "If-None-Match";
+
+    /**
+     * Header values.
+     */
+    private final List<String> values;
+
+    /**
+     * Ctor.
+     * @param headers Request headers
+     */
+    IfNoneMatch(final Iterable<Map.Entry<String, String>> headers) {
+        this.values = new RqHeaders(headers, IfNoneMatch.NAME);
+    }
+
+    /**
+     * Whether request is conditional.
+     * @return True if request has {@code If-None-Match} header
+     */
+    boolean present() {
+        return !this.values.isEmpty();
+    }
+
+    /**
+     * Whether entity tag matches condition, so it's not modified.
+     * @param etag Current entity tag, null if unknown
+     * @return True if tag matches any of requested tags
+     */
+    boolean matches(final String etag) {
+        boolean res = false;
+        if (etag != null) {
+            final String current = IfNoneMatch.opaque(etag);
+            for (final String value : this.values) {
+                for (final String tag : value.split(",")) {
+                    final String trimmed = tag.trim();
+                    if ("*".equals(trimmed) || IfNoneMatch.opaque(trimmed).equals(current)) {
+                        res = true;
+                        break;
+                    }
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Opaque tag without weakness prefix and quotes.
+     * @param tag Entity tag
+     * @return Opaque tag
+     */
+    private static String opaque(final String tag) {
+        String res = tag;
+        if (res.startsWith("W/")) {
+            res = res.substring(2);
+        }
+        if (res.length() > 1 && res.charAt(0) == '"' && res.endsWith("\"")) {
+            res = res.substring(1, res.length() - 1);
+        }
+        return res;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.http;
+
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.maven.asto.CachingStorage;
+import com.artipie.maven.asto.ContentCache;
+import com.artipie.maven.asto.MissingKeys;
+import com.artipie.maven.asto.NegativeCachingStorage;
+import com.artipie.maven.asto.SavedDigests;
+
+/**
+ * Caches of local repository read requests.
+ * <p>
+ * Caches are shared by download and upload slices: items are read through
+ * caches by download slice, upload slice invalidates changed items.
+ * </p>
+ * @since 0.12
+ */
+final class LocalCaches {
+
+    /**
+     * Known artifacts checksums.
+     */
+    private final SavedDigests sums;
+
+    /**
+     * Small items content.
+     */
+    private final ContentCache contents;
+
+    /**
+     * Missing items keys.
+     */
+    private final MissingKeys missing;
+
+    /**
+     * Ctor.
+     */
+    LocalCaches() {
+        this(new SavedDigests(), new ContentCache(), new MissingKeys());
+    }
+
+    /**
+     * Ctor.
+     * @param sums Known artifacts checksums
+     * @param contents Small items content
+     * @param missing Missing items keys
+     */
+    LocalCaches(final SavedDigests sums, final ContentCache contents,
+        final MissingKeys missing) {
+        this.sums = sums;
+        this.contents = contents;
+        this.missing = missing;
+    }
+
+    /**
+     * Storage which reads items through caches.
+     * @param origin Repository storage
+     * @return Caching storage
+     */
+    Storage storage(final Storage origin) {
+        return new NegativeCachingStorage(new CachingStorage(origin, this.contents), this.missing);
+    }
+
+    /**
+     * Known artifacts checksums.
+     * @return Checksums
+     */
+    SavedDigests checksums() {
+        return this.sums;
+    }
+
+    /**
+     * Invalidate cached data of changed item.
+     * <p>
+     * Checksum file change, e.g. {@code lib.jar.sha1}, also forgets
+     * checksums of the item it belongs to, e.g. {@code lib.jar}.
+     * </p>
+     * @param key Changed item key
+     */
+    void invalidate(final Key key) {
+        this.contents.invalidate(key);
+        this.missing.invalidate(key);
+        this.sums.remove(key);
+        final String name = key.string();
+        final int ext = name.lastIndexOf('.');
+        if (ext > name.lastIndexOf('/') + 1) {
+            this.sums.remove(new Key.From(name.substring(0, ext)));
+        }
+    }
+}
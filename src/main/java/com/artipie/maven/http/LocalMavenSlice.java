@@ -38,9 +38,12 @@ import com.artipie.http.rs.RsWithHeaders;
 import com.artipie.http.rs.RsWithStatus;
 import com.artipie.http.rs.StandardRs;
 import com.artipie.http.slice.KeyFromPath;
+import com.artipie.maven.asto.NotFoundError;
+import com.artipie.maven.asto.SavedDigests;
 import java.nio.ByteBuffer;
 import java.util.Map.Entry;
-import java.util.function.Supplier;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.reactivestreams.Publisher;
@@ -70,13 +73,35 @@ final class LocalMavenSlice implements Slice {
      */
     private final Storage storage;
 
+    /**
+     * Known artifacts checksums.
+     */
+    private final SavedDigests checksums;
+
     /**
      * New local {@code GET} slice.
      *
      * @param storage Repository storage
      */
     LocalMavenSlice(final Storage storage) {
-        this.storage = storage;
+        this(storage, new LocalCaches());
+    }
+
+    /**
+     * New local {@code GET} slice.
+     * <p>
+     * Checksums of served artifacts are remembered, so repeated requests
+     * for hot artifacts don't read checksum files from storage. Small items,
+     * such as metadata and checksum files, are served from memory, missing
+     * items are answered with {@code 404} without storage access for a while.
+     * Caches have to be invalidated by the code which changes items.
+     * </p>
+     * @param storage Repository storage
+     * @param caches Read requests caches
+     */
+    LocalMavenSlice(final Storage storage, final LocalCaches caches) {
+        this.storage = caches.storage(storage);
+        this.checksums = caches.checksums();
     }
 
     @Override
@@ -89,7 +114,7 @@ final class LocalMavenSlice implements Slice {
         final Matcher match = LocalMavenSlice.PTN_ARTIFACT.matcher(new KeyLastPart(key).get());
         final Response response;
         if (match.matches()) {
-            response = this.artifactResponse(rline.method(), key);
+            response = this.artifactResponse(rline.method(), key, headers);
         } else {
             response = this.plainResponse(rline.method(), key);
         }
@@ -100,16 +125,22 @@ final class LocalMavenSlice implements Slice {
      * Artifact response for repository artifact request.
      * @param method Method
      * @param artifact Artifact key
+     * @param headers Request headers
      * @return Response
      */
-    private Response artifactResponse(final RqMethod method, final Key artifact) {
+    private Response artifactResponse(final RqMethod method, final Key artifact,
+        final Iterable<Entry<String, String>> headers) {
         final Response response;
         switch (method) {
             case GET:
-                response = new ArtifactGetResponse(this.storage, artifact);
+                response = new ArtifactGetResponse(
+                    this.storage, artifact, this.checksums, headers
+                );
                 break;
             case HEAD:
-                response = new ArtifactHeadResponse(this.storage, artifact);
+                response = new ArtifactHeadResponse(
+                    this.storage, artifact, this.checksums, headers
+                );
                 break;
             default:
                 response = new RsWithStatus(RsStatus.METHOD_NOT_ALLOWED);
@@ -129,19 +160,15 @@ final class LocalMavenSlice implements Slice {
         switch (method) {
             case GET:
                 response = new PlainResponse(
-                    this.storage, key,
-                    () -> new AsyncResponse(this.storage.value(key).thenApply(RsWithBody::new))
+                    this.storage.value(key).thenApply(
+                        content -> new RsWithBody(StandardRs.OK, content)
+                    )
                 );
                 break;
             case HEAD:
                 response = new PlainResponse(
-                    this.storage, key,
-                    () -> new AsyncResponse(
-                        this.storage.size(key).thenApply(
-                            size -> new RsWithHeaders(
-                                StandardRs.OK, new ContentLength(size.toString())
-                            )
-                        )
+                    this.storage.size(key).thenApply(
+                        size -> new RsWithHeaders(StandardRs.OK, new ContentLength(size))
                     )
                 );
                 break;
@@ -160,23 +187,22 @@ final class LocalMavenSlice implements Slice {
 
         /**
          * New plain response.
-         * @param storage Storage
-         * @param key Location
+         * <p>
+         * Storage request for missing item fails, such failure
+         * means {@code 404} response, so existence is not checked separately.
+         * </p>
          * @param actual Actual response with body or not
          */
-        PlainResponse(final Storage storage, final Key key,
-            final Supplier<? extends Response> actual) {
+        PlainResponse(final CompletionStage<? extends Response> actual) {
             super(
                 new AsyncResponse(
-                    storage.exists(key).thenApply(
-                        exists -> {
-                            final Response res;
-                            if (exists) {
-                                res = actual.get();
-                            } else {
-                                res = StandardRs.NOT_FOUND;
+                    actual.<Response>thenApply(Function.identity()).exceptionally(
+                        err -> {
+                            final NotFoundError missing = new NotFoundError(err);
+                            if (!missing.matches()) {
+                                throw missing.rethrow();
                             }
-                            return res;
+                            return StandardRs.NOT_FOUND;
                         }
                     )
                 )
@@ -37,6 +37,9 @@ import com.artipie.http.rt.RtRule;
 import com.artipie.http.rt.RtRulePath;
 import com.artipie.http.rt.SliceRoute;
 import com.artipie.http.slice.SliceSimple;
+import com.artipie.maven.cache.Freshness;
+import com.artipie.maven.cache.NegativeCache;
+import com.artipie.maven.cache.Staleness;
 import java.net.URI;
 
 /**
@@ -67,27 +70,148 @@ public final class MavenProxySlice extends Slice.Wrap {
 
     /**
      * New Maven proxy slice with cache.
+     * <p>
+     * Paths not found in remote are not remembered and stale cached items
+     * are not served, use constructors with {@link NegativeCache} and
+     * {@link Staleness} to enable these policies.
+     * </p>
      * @param clients HTTP clients
      * @param remote Remote URI
      * @param auth Authenticator
      * @param cache Repository cache
-     * @checkstyle ParameterNumberCheck (500 lines)
      */
     public MavenProxySlice(
         final ClientSlices clients,
         final URI remote,
         final Authenticator auth,
         final Cache cache
+    ) {
+        this(clients, remote, auth, cache, NegativeCache.DISABLED);
+    }
+
+    /**
+     * New Maven proxy slice with cache and negative cache.
+     * @param clients HTTP clients
+     * @param remote Remote URI
+     * @param auth Authenticator
+     * @param cache Repository cache
+     * @param misses Negative cache for paths not found in remote,
+     *  use {@link NegativeCache#DISABLED} to always request remote
+     */
+    public MavenProxySlice(
+        final ClientSlices clients,
+        final URI remote,
+        final Authenticator auth,
+        final Cache cache,
+        final NegativeCache misses
+    ) {
+        this(clients, remote, auth, cache, misses, new Freshness());
+    }
+
+    /**
+     * New Maven proxy slice with cache, negative cache and freshness policy,
+     * stale cached items are not served.
+     * @param clients HTTP clients
+     * @param remote Remote URI
+     * @param auth Authenticator
+     * @param cache Repository cache
+     * @param misses Negative cache for paths not found in remote
+     * @param freshness Freshness policy of cached items
+     * @checkstyle ParameterNumberCheck (500 lines)
+     */
+    public MavenProxySlice(
+        final ClientSlices clients,
+        final URI remote,
+        final Authenticator auth,
+        final Cache cache,
+        final NegativeCache misses,
+        final Freshness freshness
+    ) {
+        this(clients, remote, auth, cache, misses, freshness, Staleness.NONE);
+    }
+
+    /**
+     * New Maven proxy slice with cache, negative cache, freshness and
+     * staleness policies.
+     * @param clients HTTP clients
+     * @param remote Remote URI
+     * @param auth Authenticator
+     * @param cache Repository cache
+     * @param misses Negative cache for paths not found in remote
+     * @param freshness Freshness policy of cached items
+     * @param staleness Policy of serving stale cached items
+     */
+    public MavenProxySlice(
+        final ClientSlices clients,
+        final URI remote,
+        final Authenticator auth,
+        final Cache cache,
+        final NegativeCache misses,
+        final Freshness freshness,
+        final Staleness staleness
+    ) {
+        this(
+            clients, remote, auth, cache, misses, freshness, staleness, new UpstreamPolicy()
+        );
+    }
+
+    /**
+     * New Maven proxy slice with cache, negative cache, freshness, staleness
+     * and upstream execution policies.
+     * @param clients HTTP clients
+     * @param remote Remote URI
+     * @param auth Authenticator
+     * @param cache Repository cache
+     * @param misses Negative cache for paths not found in remote
+     * @param freshness Freshness policy of cached items
+     * @param staleness Policy of serving stale cached items
+     * @param upstream Upstream requests execution policy, it may be shared
+     *  by proxies to share limits of the same host
+     */
+    public MavenProxySlice(
+        final ClientSlices clients,
+        final URI remote,
+        final Authenticator auth,
+        final Cache cache,
+        final NegativeCache misses,
+        final Freshness freshness,
+        final Staleness staleness,
+        final UpstreamPolicy upstream
+    ) {
+        this(
+            upstream.slice(remote.getHost(), remote(clients, remote, auth)),
+            cache, misses, freshness, new RemoteChecksums(), staleness
+        );
+    }
+
+    /**
+     * New Maven proxy slice.
+     * @param client Remote client slice
+     * @param cache Repository cache
+     * @param misses Negative cache for paths not found in remote
+     * @param freshness Freshness policy of cached items
+     * @param checksums Checksum headers of cached items
+     * @param staleness Policy of serving stale cached items
+     */
+    private MavenProxySlice(
+        final Slice client,
+        final Cache cache,
+        final NegativeCache misses,
+        final Freshness freshness,
+        final RemoteChecksums checksums,
+        final Staleness staleness
     ) {
         super(
             new SliceRoute(
                 new RtRulePath(
                     new ByMethodsRule(RqMethod.HEAD),
-                    new HeadProxySlice(remote(clients, remote, auth))
+                    new HeadProxySlice(client, cache, misses, freshness, checksums)
                 ),
                 new RtRulePath(
                     new ByMethodsRule(RqMethod.GET),
-                    new CachedProxySlice(remote(clients, remote, auth), cache)
+                    new CachedProxySlice(
+                        client, cache, misses, freshness, checksums, staleness
+                    )
                 ),
                 new RtRulePath(
                     RtRule.FALLBACK,
@@ -60,6 +60,18 @@ public final class MavenSlice extends Slice.Wrap {
      * @param users Concrete identities.
      */
     public MavenSlice(final Storage storage, final Permissions perms, final Authentication users) {
+        this(storage, perms, users, new LocalCaches());
+    }
+
+    /**
+     * Ctor.
+     * @param storage The storage.
+     * @param perms Access permissions.
+     * @param users Concrete identities.
+     * @param caches Read requests caches, shared by download and upload slices
+     */
+    private MavenSlice(final Storage storage, final Permissions perms,
+        final Authentication users, final LocalCaches caches) {
         super(
             new SliceRoute(
                 new RtRulePath(
@@ -68,7 +80,7 @@ public final class MavenSlice extends Slice.Wrap {
                         new ByMethodsRule(RqMethod.HEAD)
                     ),
                     new BasicAuthSlice(
-                        new LocalMavenSlice(storage),
+                        new LocalMavenSlice(storage, caches),
                         users,
                         new Permission.ByName(perms, Action.Standard.READ)
                     )
@@ -76,7 +88,7 @@ public final class MavenSlice extends Slice.Wrap {
                 new RtRulePath(
                     new ByMethodsRule(RqMethod.PUT),
                     new BasicAuthSlice(
-                        new UpdateMavenSlice(storage),
+                        new UpdateMavenSlice(storage, caches),
                         users,
                         new Permission.ByName(perms, Action.Standard.WRITE)
                     )
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.http;
+
+import com.artipie.http.Headers;
+import com.artipie.maven.cache.LruCache;
+import java.util.Map;
+
+/**
+ * Checksum headers of cached remote items.
+ * <p>
+ * Headers are remembered when item content is loaded from remote or
+ * revalidated, they are sent in responses to {@code HEAD} requests served
+ * from cache. Number of remembered items is limited, least recently used
+ * items are forgotten first.
+ * </p>
+ * @since 0.12
+ */
+final class RemoteChecksums {
+
+    /**
+     * Default max number of items.
+     */
+    private static final int CAPACITY = 10_000;
+
+    /**
+     * Checksum headers by item path.
+     */
+    private final LruCache<String, Headers> cache;
+
+    /**
+     * Ctor.
+     */
+    RemoteChecksums() {
+        this(RemoteChecksums.CAPACITY);
+    }
+
+    /**
+     * Ctor.
+     * @param capacity Max number of items
+     */
+    RemoteChecksums(final int capacity) {
+        this.cache = new LruCache<>(capacity);
+    }
+
+    /**
+     * Remember checksum headers of the item.
+     * @param path Item path
+     * @param headers Remote response headers
+     */
+    void put(final String path, final Iterable<Map.Entry<String, String>> headers) {
+        final Headers checksums = new ChecksumHeaders(headers).checksums();
+        if (checksums.iterator().hasNext()) {
+            this.cache.put(path, checksums);
+        } else {
+            this.cache.remove(path);
+        }
+    }
+
+    /**
+     * Checksum headers of the item.
+     * @param path Item path
+     * @return Checksum headers, empty if not known
+     */
+    Headers get(final String path) {
+        return this.cache.get(path).orElse(Headers.EMPTY);
+    }
+}
@@ -56,7 +56,8 @@ final class RepoHead {
     /**
      * Artifact head.
      * @param path Path for artifact
-     * @return Artifact headers
+     * @return Artifact headers, empty if artifact is not found, failed if
+     *  repository responded with other error
      */
     CompletionStage<Optional<Headers>> head(final String path) {
         final CompletableFuture<Optional<Headers>> promise = new CompletableFuture<>();
@@ -67,8 +68,14 @@ final class RepoHead {
                 final CompletionStage<Optional<Headers>> res;
                 if (status == RsStatus.OK) {
                     res = CompletableFuture.completedFuture(Optional.of(rsheaders));
-                } else {
+                } else if (status == RsStatus.NOT_FOUND) {
                     res = CompletableFuture.completedFuture(Optional.empty());
+                } else {
+                    res = CompletableFuture.failedFuture(
+                        new IllegalStateException(
+                            String.format("Repository responded to HEAD %s with %s", path, status)
+                        )
+                    );
                 }
                 return res.thenAccept(promise::complete).toCompletableFuture();
             }
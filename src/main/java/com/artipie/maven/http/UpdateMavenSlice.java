@@ -39,11 +39,16 @@ import com.artipie.maven.Maven;
 import com.artipie.maven.ValidUpload;
 import com.artipie.maven.asto.AstoMaven;
 import com.artipie.maven.asto.AstoValidUpload;
+import com.artipie.maven.asto.DigestingStorage;
+import com.artipie.maven.asto.InvalidatingStorage;
+import com.artipie.maven.asto.SavedDigests;
+import com.artipie.maven.metadata.MetadataCache;
 import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.cactoos.list.ListOf;
@@ -107,7 +112,57 @@ final class UpdateMavenSlice implements Slice {
      * @param storage Storage
      */
     UpdateMavenSlice(final Storage storage) {
-        this(storage, new AstoMaven(storage), new AstoValidUpload(storage));
+        this(storage, new LocalCaches());
+    }
+
+    /**
+     * Ctor.
+     * @param storage Storage
+     * @param caches Read requests caches to invalidate when items are changed
+     */
+    UpdateMavenSlice(final Storage storage, final LocalCaches caches) {
+        this(storage, new SavedDigests(), new MetadataCache(), caches);
+    }
+
+    /**
+     * Ctor.
+     * <p>
+     * Checksums of uploaded content are calculated while it's written to
+     * temp storage, so upload validation and metadata checksums generation
+     * don't need to read it again. Uploaded metadata is parsed once and
+     * cached until it's changed.
+     * </p>
+     * @param storage Storage
+     * @param digests Digests of saved items
+     * @param cache Parsed metadata cache
+     * @param caches Read requests caches to invalidate when items are changed
+     */
+    private UpdateMavenSlice(final Storage storage, final SavedDigests digests,
+        final MetadataCache cache, final LocalCaches caches) {
+        this(
+            new InvalidatingStorage(
+                new DigestingStorage(storage, digests),
+                UpdateMavenSlice.invalidation(cache, caches)
+            ),
+            storage, digests, cache
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param tracked Storage which remembers digests and invalidates caches
+     * @param storage Origin storage
+     * @param digests Digests of saved items
+     * @param cache Parsed metadata cache
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private UpdateMavenSlice(final Storage tracked, final Storage storage,
+        final SavedDigests digests, final MetadataCache cache) {
+        this(
+            tracked,
+            new AstoMaven(tracked, digests, cache),
+            new AstoValidUpload(storage, digests, cache)
+        );
     }
 
     @Override
@@ -183,4 +238,18 @@ final class UpdateMavenSlice implements Slice {
                 .toArray(CompletableFuture[]::new)
         );
     }
+
+    /**
+     * Invalidation of cached data for changed storage item.
+     * @param cache Parsed metadata cache
+     * @param caches Read requests caches
+     * @return Invalidation action
+     */
+    private static Consumer<Key> invalidation(final MetadataCache cache,
+        final LocalCaches caches) {
+        return key -> {
+            cache.invalidate(key);
+            caches.invalidate(key);
+        };
+    }
 }
@@ -0,0 +1,114 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.http;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Permits for concurrent upstream requests with bounded queue.
+ * @since 0.12
+ */
+final class UpstreamPermits {
+
+    /**
+     * Max number of concurrent requests.
+     */
+    private final int limit;
+
+    /**
+     * Max number of waiting requests.
+     */
+    private final int queue;
+
+    /**
+     * Waiting requests.
+     */
+    private final Deque<CompletableFuture<Void>> waiting;
+
+    /**
+     * Number of running requests.
+     */
+    private int running;
+
+    /**
+     * Ctor.
+     * @param limit Max number of concurrent requests
+     * @param queue Max number of waiting requests
+     */
+    UpstreamPermits(final int limit, final int queue) {
+        this.limit = limit;
+        this.queue = queue;
+        this.waiting = new ArrayDeque<>(Math.min(queue, 16));
+    }
+
+    /**
+     * Acquire permit.
+     * @return Future completed when permit is acquired, empty if queue is full
+     */
+    synchronized Optional<CompletableFuture<Void>> acquire() {
+        final Optional<CompletableFuture<Void>> res;
+        if (this.running < this.limit) {
+            this.running += 1;
+            res = Optional.of(CompletableFuture.allOf());
+        } else if (this.waiting.size() < this.queue) {
+            final CompletableFuture<Void> next = new CompletableFuture<>();
+            this.waiting.add(next);
+            res = Optional.of(next);
+        } else {
+            res = Optional.empty();
+        }
+        return res;
+    }
+
+    /**
+     * Remove request which stopped waiting from the queue.
+     * @param permit Permit future returned by {@link #acquire()}
+     */
+    synchronized void withdraw(final CompletableFuture<Void> permit) {
+        this.waiting.remove(permit);
+    }
+
+    /**
+     * Release permit, it's passed to the first waiting request if any.
+     * <p>
+     * Requests which stopped waiting, e.g. timed out, are skipped.
+     * </p>
+     */
+    void release() {
+        boolean passed = false;
+        while (!passed) {
+            final CompletableFuture<Void> next;
+            synchronized (this) {
+                next = this.waiting.poll();
+                if (next == null) {
+                    this.running -= 1;
+                }
+            }
+            passed = next == null || next.complete(null);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.http;
+
+import com.artipie.http.Slice;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Execution policy of upstream requests.
+ * <p>
+ * Upstream has to start response within response deadline and has to send
+ * next body chunk within read deadline, otherwise request fails. Number of
+ * concurrent requests to the same host is limited, requests over the limit
+ * are queued, requests are answered with {@code 503} immediately if queue
+ * is full or after waiting in the queue for response deadline. Limits are shared by all slices created by the same policy.
+ * </p>
+ * @since 0.12
+ */
+public final class UpstreamPolicy {
+
+    /**
+     * Default response and read deadline.
+     */
+    private static final Duration DEADLINE = Duration.ofMinutes(1);
+
+    /**
+     * Default max number of concurrent requests per host.
+     */
+    private static final int CONCURRENCY = 64;
+
+    /**
+     * Default max number of queued requests per host.
+     */
+    private static final int QUEUE = 256;
+
+    /**
+     * Response deadline.
+     */
+    private final Duration response;
+
+    /**
+     * Read deadline.
+     */
+    private final Duration read;
+
+    /**
+     * Max number of concurrent requests per host.
+     */
+    private final int concurrency;
+
+    /**
+     * Max number of queued requests per host.
+     */
+    private final int queue;
+
+    /**
+     * Permits by host.
+     */
+    private final ConcurrentMap<String, UpstreamPermits> hosts;
+
+    /**
+     * Ctor with default deadlines and limits.
+     */
+    public UpstreamPolicy() {
+        this(
+            UpstreamPolicy.DEADLINE, UpstreamPolicy.DEADLINE,
+            UpstreamPolicy.CONCURRENCY, UpstreamPolicy.QUEUE
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param response Deadline to start response
+     * @param read Deadline to read next body chunk
+     * @param concurrency Max number of concurrent requests per host
+     * @param queue Max number of queued requests per host
+     */
+    public UpstreamPolicy(final Duration response, final Duration read,
+        final int concurrency, final int queue) {
+        this.response = response;
+        this.read = read;
+        this.concurrency = concurrency;
+        this.queue = queue;
+        this.hosts = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Upstream slice executed according to the policy.
+     * @param host Upstream host
+     * @param origin Upstream client slice
+     * @return Slice
+     */
+    Slice slice(final String host, final Slice origin) {
+        return new UpstreamSlice(
+            origin,
+            this.hosts.computeIfAbsent(
+                host, any -> new UpstreamPermits(this.concurrency, this.queue)
+            ),
+            this.response,
+            this.read
+        );
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.http;
+
+import com.artipie.http.Connection;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.Slice;
+import com.artipie.http.rs.RsStatus;
+import hu.akarnokd.rxjava2.interop.CompletableInterop;
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.reactivestreams.Publisher;
+
+/**
+ * Upstream slice with deadlines and concurrency limit.
+ * <p>
+ * Request is answered with {@code 503} if permits queue is full, if permit is
+ * not acquired within deadline, if upstream doesn't start response within
+ * deadline or if upstream request fails before response. Response body fails
+ * if next body chunk is not received within read deadline. Permit is released
+ * when origin response is sent, even after deadline, so the limit applies to
+ * requests still running in origin. Body of origin response which started after
+ * deadline is drained. Permit of origin request which didn't start response
+ * within both deadlines is released, so hung requests don't hold permits forever.
+ * </p>
+ * @since 0.12
+ */
+final class UpstreamSlice implements Slice {
+
+    /**
+     * Origin slice.
+     */
+    private final Slice origin;
+
+    /**
+     * Upstream permits.
+     */
+    private final UpstreamPermits permits;
+
+    /**
+     * Response deadline.
+     */
+    private final Duration deadline;
+
+    /**
+     * Read deadline.
+     */
+    private final Duration read;
+
+    /**
+     * Ctor.
+     * @param origin Origin slice
+     * @param permits Upstream permits
+     * @param deadline Response deadline
+     * @param read Read deadline
+     */
+    UpstreamSlice(final Slice origin, final UpstreamPermits permits,
+        final Duration deadline, final Duration read) {
+        this.origin = origin;
+        this.permits = permits;
+        this.deadline = deadline;
+        this.read = read;
+    }
+
+    @Override
+    public Response response(final String line, final Iterable<Map.Entry<String, String>> headers,
+        final Publisher<ByteBuffer> body) {
+        return connection -> this.permits.acquire().<CompletionStage<Void>>map(
+            permit -> permit.orTimeout(this.deadline.toMillis(), TimeUnit.MILLISECONDS).handle(
+                (nothing, err) -> {
+                    final CompletionStage<Void> res;
+                    if (err == null) {
+                        res = this.send(line, headers, body, connection);
+                    } else {
+                        this.permits.withdraw(permit);
+                        res = UpstreamSlice.unavailable(connection);
+                    }
+                    return res;
+                }
+            ).thenCompose(res -> res)
+        ).orElseGet(() -> UpstreamSlice.unavailable(connection));
+    }
+
+    /**
+     * Send request to origin.
+     * @param line Request line
+     * @param headers Request headers
+     * @param body Request body
+     * @param connection Client connection
+     * @return Completion of response sending
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private CompletionStage<Void> send(final String line,
+        final Iterable<Map.Entry<String, String>> headers, final Publisher<ByteBuffer> body,
+        final Connection connection) {
+        final CompletableFuture<Void> started = new CompletableFuture<>();
+        final CompletableFuture<Void> sent = new CompletableFuture<>();
+        final AtomicBoolean responded = new AtomicBoolean();
+        final AtomicBoolean held = new AtomicBoolean(true);
+        final Runnable release = () -> {
+            if (held.compareAndSet(true, false)) {
+                this.permits.release();
+            }
+        };
+        CompletableFuture.runAsync(
+            () -> {
+                if (!responded.get()) {
+                    release.run();
+                }
+            },
+            CompletableFuture.delayedExecutor(
+                this.deadline.plus(this.read).toMillis(), TimeUnit.MILLISECONDS
+            )
+        );
+        this.origin.response(line, headers, body).send(
+            (status, rsheaders, rsbody) -> {
+                responded.set(true);
+                final CompletionStage<Void> res;
+                if (started.complete(null)) {
+                    res = connection.accept(
+                        status, rsheaders,
+                        Flowable.fromPublisher(rsbody)
+                            .timeout(this.read.toMillis(), TimeUnit.MILLISECONDS)
+                    );
+                } else {
+                    res = Flowable.fromPublisher(rsbody)
+                        .timeout(this.read.toMillis(), TimeUnit.MILLISECONDS)
+                        .ignoreElements()
+                        .onErrorComplete()
+                        .to(CompletableInterop.await());
+                }
+                return res;
+            }
+        ).whenComplete(
+            (nothing, err) -> {
+                release.run();
+                if (err == null) {
+                    sent.complete(null);
+                } else {
+                    started.completeExceptionally(err);
+                    sent.completeExceptionally(err);
+                }
+            }
+        );
+        return started.orTimeout(this.deadline.toMillis(), TimeUnit.MILLISECONDS)
+            .handle(
+                (nothing, err) -> {
+                    final CompletionStage<Void> res;
+                    if (err == null) {
+                        res = sent;
+                    } else {
+                        res = UpstreamSlice.unavailable(connection);
+                    }
+                    return res;
+                }
+            ).thenCompose(res -> res);
+    }
+
+    /**
+     * Answer with {@code 503}.
+     * @param connection Client connection
+     * @return Completion of response sending
+     */
+    private static CompletionStage<Void> unavailable(final Connection connection) {
+        return connection.accept(RsStatus.UNAVAILABLE, Headers.EMPTY, Flowable.empty());
+    }
+}
@@ -25,11 +25,9 @@ package com.artipie.maven.metadata;
 
 import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
-import com.artipie.asto.ext.PublisherAs;
-import com.jcabi.xml.XMLDocument;
-import java.nio.charset.StandardCharsets;
 import java.util.Comparator;
 import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -49,32 +47,47 @@ public final class ArtifactsMetadata {
      */
     private final Storage storage;
 
+    /**
+     * Parsed metadata cache.
+     */
+    private final MetadataCache cache;
+
     /**
      * Ctor.
      * @param storage Storage
      */
     public ArtifactsMetadata(final Storage storage) {
+        this(storage, new MetadataCache());
+    }
+
+    /**
+     * Ctor.
+     * @param storage Storage
+     * @param cache Parsed metadata cache
+     */
+    public ArtifactsMetadata(final Storage storage, final MetadataCache cache) {
         this.storage = storage;
+        this.cache = cache;
     }
 
     /**
-     * Reads release version from maven-metadata.xml.
+     * Reads release version from maven-metadata.xml: max of versions
+     * and top-level version.
      * @param location Package location
      * @return Version as completed stage
      */
     public CompletionStage<String> maxVersion(final Key location) {
-        return this.storage.value(new Key.From(location, ArtifactsMetadata.MAVEN_METADATA))
-            .thenCompose(
-                content -> new PublisherAs(content).string(StandardCharsets.UTF_8)
-                .thenApply(
-                    metadata -> new XMLDocument(metadata).xpath("//version/text()").stream()
-                        .max(Comparator.comparing(Version::new)).orElseThrow(
-                            () -> new IllegalArgumentException(
-                                "Maven metadata xml not valid: latest version not found"
-                            )
-                        )
+        return this.metadata(location).thenApply(
+            metadata -> Stream.concat(metadata.versions().stream(), metadata.version().stream())
+                .map(Version::new)
+                .max(Comparator.naturalOrder())
+                .map(Version::toString)
+                .orElseThrow(
+                    () -> new IllegalArgumentException(
+                        "Maven metadata xml not valid: latest version not found"
+                    )
                 )
-            );
+        );
     }
 
     /**
@@ -83,16 +96,19 @@ public final class ArtifactsMetadata {
      * @return Pair of group id and artifact id
      */
     public CompletionStage<Pair<String, String>> groupAndArtifact(final Key location) {
-        return this.storage.value(new Key.From(location, ArtifactsMetadata.MAVEN_METADATA))
-            .thenCompose(
-                content -> new PublisherAs(content).string(StandardCharsets.UTF_8)
-                    .thenApply(XMLDocument::new)
-                    .thenApply(
-                        doc -> new ImmutablePair<>(
-                            doc.xpath("//groupId/text()").get(0),
-                            doc.xpath("//artifactId/text()").get(0)
-                        )
-                    )
-            );
+        return this.metadata(location).thenApply(
+            metadata -> new ImmutablePair<>(metadata.group(), metadata.artifact())
+        );
+    }
+
+    /**
+     * Parsed maven-metadata.xml.
+     * @param location Package location
+     * @return Parsed metadata
+     */
+    private CompletionStage<ParsedMetadata> metadata(final Key location) {
+        return this.cache.load(
+            this.storage, new Key.From(location, ArtifactsMetadata.MAVEN_METADATA)
+        );
     }
 }
@@ -27,10 +27,9 @@ import com.artipie.asto.Content;
 import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
 import java.nio.charset.StandardCharsets;
-import java.time.Instant;
-import java.util.Comparator;
-import java.util.Set;
-import java.util.concurrent.CompletableFuture;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import org.xembly.Directive;
 import org.xembly.Directives;
@@ -38,22 +37,48 @@ import org.xembly.Xembler;
 
 /**
  * Maven metadata generator.
+ * <p>
+ * Metadata with updated versions is written by {@link MetadataWriter} directly
+ * into storage content by chunks, without building document tree.
+ * </p>
  * @since 0.3
  */
-@SuppressWarnings("PMD.AvoidDuplicateLiterals")
 public final class MavenMetadata {
 
     /**
-     * Current Xembler state.
+     * Source metadata xml.
      */
-    private final Directives dirs;
+    private final byte[] source;
+
+    /**
+     * Versions to write, empty if source metadata should be saved as is.
+     */
+    private final Optional<Collection<String>> items;
 
     /**
      * Ctor.
      * @param source Source xembler directives
      */
     public MavenMetadata(final Iterable<Directive> source) {
-        this.dirs = new Directives(source);
+        this(new Xembler(new Directives(source)).xmlQuietly().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Ctor.
+     * @param source Source metadata xml
+     */
+    public MavenMetadata(final byte[] source) {
+        this(source, Optional.empty());
+    }
+
+    /**
+     * Primary ctor.
+     * @param source Source metadata xml
+     * @param items Versions to write
+     */
+    private MavenMetadata(final byte[] source, final Optional<Collection<String>> items) {
+        this.source = source;
+        this.items = items;
     }
 
     /**
@@ -61,23 +86,18 @@ public final class MavenMetadata {
      * @param items Version names
      * @return Updated metadata
      */
-    public MavenMetadata versions(final Set<String> items) {
-        final Directives copy = new Directives(this.dirs);
-        copy.xpath("/metadata")
-            .push().xpath("versioning").remove().pop()
-            .xpath("/metadata")
-            .add("versioning");
-        items.stream().max(Comparator.comparing(Version::new))
-            .ifPresent(latest -> copy.add("latest").set(latest).up());
-        items.stream().filter(version -> !version.endsWith("SNAPSHOT"))
-            .max(Comparator.comparing(Version::new))
-            .ifPresent(latest -> copy.add("release").set(latest).up());
-        copy.add("versions");
-        items.forEach(version -> copy.add("version").set(version).up());
-        copy.up();
-        copy.addIf("lastUpdated").set(Instant.now().toEpochMilli()).up();
-        copy.up();
-        return new MavenMetadata(copy);
+    public MavenMetadata versions(final Collection<String> items) {
+        return new MavenMetadata(this.source, Optional.of(new ArrayList<>(items)));
+    }
+
+    /**
+     * Metadata xml content.
+     * @return Content
+     */
+    public Content content() {
+        return this.items.<Content>map(
+            versions -> new Content.From(MetadataWriter.chunks(this.source, versions))
+        ).orElseGet(() -> new Content.From(this.source));
     }
 
     /**
@@ -88,10 +108,6 @@ public final class MavenMetadata {
      */
     public CompletionStage<Key> save(final Storage storage, final Key base) {
         final Key res = new Key.From(base, "maven-metadata.xml");
-        return CompletableFuture.supplyAsync(
-            () -> new Xembler(this.dirs).xmlQuietly().getBytes(StandardCharsets.UTF_8)
-        )
-            .thenCompose(data -> storage.save(res, new Content.From(data)))
-            .thenApply(nothing -> res);
+        return storage.save(res, this.content()).thenApply(nothing -> res);
     }
 }
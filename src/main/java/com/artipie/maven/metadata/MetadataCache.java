@@ -0,0 +1,151 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.metadata;
+
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.maven.cache.LruCache;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Cache of parsed {@code maven-metadata.xml} files.
+ * <p>
+ * Metadata is cached by storage key together with the size of metadata file,
+ * cached metadata is used only if storage item still has the same size.
+ * Cached metadata must be invalidated on metadata file update,
+ * see {@link com.artipie.maven.asto.InvalidatingStorage}. Total size of cached
+ * metadata files is limited, least recently used metadata is evicted first.
+ * </p>
+ * @since 0.12
+ */
+public final class MetadataCache {
+
+    /**
+     * Default max total size of cached metadata files in bytes.
+     */
+    private static final long CAPACITY = 16L * 1024 * 1024;
+
+    /**
+     * Parsed metadata by key.
+     */
+    private final LruCache<String, Entry> cache;
+
+    /**
+     * Ctor.
+     */
+    public MetadataCache() {
+        this(MetadataCache.CAPACITY);
+    }
+
+    /**
+     * Ctor.
+     * @param capacity Max total size of cached metadata files in bytes
+     */
+    public MetadataCache(final long capacity) {
+        this.cache = new LruCache<>(capacity, entry -> entry.size);
+    }
+
+    /**
+     * Load parsed metadata from storage or from cache.
+     * @param storage Storage
+     * @param key Metadata key
+     * @return Completion stage with parsed metadata
+     */
+    public CompletionStage<ParsedMetadata> load(final Storage storage, final Key key) {
+        final Optional<Entry> cached = this.cache.get(key.string());
+        final CompletionStage<ParsedMetadata> res;
+        if (cached.isPresent()) {
+            res = storage.size(key).thenCompose(
+                size -> {
+                    final CompletionStage<ParsedMetadata> meta;
+                    if (size == cached.get().size) {
+                        meta = CompletableFuture.completedFuture(cached.get().metadata);
+                    } else {
+                        meta = this.parse(storage, key);
+                    }
+                    return meta;
+                }
+            );
+        } else {
+            res = this.parse(storage, key);
+        }
+        return res;
+    }
+
+    /**
+     * Invalidate cached metadata.
+     * @param key Metadata key
+     */
+    public void invalidate(final Key key) {
+        this.cache.remove(key.string());
+    }
+
+    /**
+     * Read and parse metadata from storage, put it to cache.
+     * @param storage Storage
+     * @param key Metadata key
+     * @return Completion stage with parsed metadata
+     */
+    private CompletionStage<ParsedMetadata> parse(final Storage storage, final Key key) {
+        return storage.value(key)
+            .thenCompose(content -> new PublisherAs(content).bytes())
+            .thenApply(
+                bytes -> {
+                    final ParsedMetadata meta = new MetadataReader(bytes).read();
+                    this.cache.put(key.string(), new Entry(bytes.length, meta));
+                    return meta;
+                }
+            );
+    }
+
+    /**
+     * Cache entry.
+     * @since 0.12
+     */
+    private static final class Entry {
+
+        /**
+         * Metadata file size.
+         */
+        private final long size;
+
+        /**
+         * Parsed metadata.
+         */
+        private final ParsedMetadata metadata;
+
+        /**
+         * Ctor.
+         * @param size Metadata file size
+         * @param metadata Parsed metadata
+         */
+        Entry(final long size, final ParsedMetadata metadata) {
+            this.size = size;
+            this.metadata = metadata;
+        }
+    }
+}
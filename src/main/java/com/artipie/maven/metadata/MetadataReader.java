@@ -0,0 +1,206 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.metadata;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Streaming {@code maven-metadata.xml} reader.
+ * <p>
+ * Reads group id, artifact id, top-level version, latest, release and versions
+ * with StAX cursor
+ * without building the document tree, all other elements are skipped.
+ * Elements are matched by local names, so namespaced metadata is read too.
+ * DTD and external entities are not supported.
+ * </p>
+ * @since 0.12
+ */
+public final class MetadataReader {
+
+    /**
+     * Root element name.
+     */
+    private static final String ROOT = "metadata";
+
+    /**
+     * Versioning element name.
+     */
+    private static final String VERSIONING = "versioning";
+
+    /**
+     * Xml input factory.
+     */
+    private static final XMLInputFactory FACTORY = MetadataReader.factory();
+
+    /**
+     * Metadata xml input.
+     */
+    private final InputStream input;
+
+    /**
+     * Ctor.
+     * @param bytes Metadata xml bytes
+     */
+    public MetadataReader(final byte[] bytes) {
+        this(new ByteArrayInputStream(bytes));
+    }
+
+    /**
+     * Ctor.
+     * @param input Metadata xml input, it's not closed by reader
+     */
+    public MetadataReader(final InputStream input) {
+        this.input = input;
+    }
+
+    /**
+     * Read metadata.
+     * @return Parsed metadata
+     * @throws IllegalArgumentException If xml is not valid
+     */
+    public ParsedMetadata read() {
+        try {
+            final XMLStreamReader reader = MetadataReader.FACTORY.createXMLStreamReader(
+                this.input
+            );
+            try {
+                return MetadataReader.read(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (final XMLStreamException err) {
+            throw new IllegalArgumentException("Maven metadata xml not valid", err);
+        }
+    }
+
+    /**
+     * Read metadata elements.
+     * @param reader Xml stream reader
+     * @return Parsed metadata
+     * @throws XMLStreamException On xml error
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    private static ParsedMetadata read(final XMLStreamReader reader)
+        throws XMLStreamException {
+        final List<String> path = new ArrayList<>(4);
+        final List<String> versions = new ArrayList<>(16);
+        Optional<String> group = Optional.empty();
+        Optional<String> artifact = Optional.empty();
+        Optional<String> latest = Optional.empty();
+        Optional<String> release = Optional.empty();
+        Optional<String> version = Optional.empty();
+        while (reader.hasNext()) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                path.add(reader.getLocalName());
+                if (MetadataReader.at(path, MetadataReader.ROOT, "groupId")) {
+                    group = MetadataReader.first(group, reader);
+                } else if (MetadataReader.at(path, MetadataReader.ROOT, "artifactId")) {
+                    artifact = MetadataReader.first(artifact, reader);
+                } else if (MetadataReader.at(path, MetadataReader.ROOT, "version")) {
+                    version = MetadataReader.first(version, reader);
+                } else if (
+                    MetadataReader.at(
+                        path, MetadataReader.ROOT, MetadataReader.VERSIONING, "latest"
+                    )
+                ) {
+                    latest = MetadataReader.first(latest, reader);
+                } else if (
+                    MetadataReader.at(
+                        path, MetadataReader.ROOT, MetadataReader.VERSIONING, "release"
+                    )
+                ) {
+                    release = MetadataReader.first(release, reader);
+                } else if (
+                    MetadataReader.at(
+                        path, MetadataReader.ROOT, MetadataReader.VERSIONING,
+                        "versions", "version"
+                    )
+                ) {
+                    versions.add(reader.getElementText().trim());
+                }
+                if (reader.isEndElement()) {
+                    path.remove(path.size() - 1);
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                path.remove(path.size() - 1);
+            }
+        }
+        return new ParsedMetadata(group, artifact, versions, latest, release, version);
+    }
+
+    /**
+     * Read element text if value was not read yet.
+     * Reader is moved to the element end in any case.
+     * @param current Current value
+     * @param reader Reader positioned on element start
+     * @return First read value
+     * @throws XMLStreamException On xml error
+     */
+    private static Optional<String> first(final Optional<String> current,
+        final XMLStreamReader reader) throws XMLStreamException {
+        final String text = reader.getElementText().trim();
+        final Optional<String> res;
+        if (current.isPresent()) {
+            res = current;
+        } else {
+            res = Optional.of(text);
+        }
+        return res;
+    }
+
+    /**
+     * Check current elements path.
+     * @param path Current path
+     * @param names Expected element names
+     * @return True if path equals to names
+     */
+    private static boolean at(final List<String> path, final String... names) {
+        boolean res = path.size() == names.length;
+        for (int idx = 0; res && idx < names.length; ++idx) {
+            res = names[idx].equals(path.get(idx));
+        }
+        return res;
+    }
+
+    /**
+     * Create secure xml input factory.
+     * @return Xml input factory
+     */
+    static XMLInputFactory factory() {
+        final XMLInputFactory res = XMLInputFactory.newInstance();
+        res.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        res.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        res.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return res;
+    }
+}
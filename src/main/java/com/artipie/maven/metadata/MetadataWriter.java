@@ -0,0 +1,334 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.metadata;
+
+import io.reactivex.Emitter;
+import io.reactivex.Flowable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Optional;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * Streaming {@code maven-metadata.xml} writer.
+ * <p>
+ * Copies source metadata elements except {@code versioning} and appends
+ * {@code versioning} element generated from versions list. Metadata is written
+ * with {@link XMLStreamWriter} by chunks: first chunk contains copied source
+ * elements, next chunks contain {@link #BATCH} versions each, so document
+ * is never kept in memory as a whole.
+ * </p>
+ * @since 0.12
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class MetadataWriter {
+
+    /**
+     * Versions count written in one chunk.
+     */
+    private static final int BATCH = 512;
+
+    /**
+     * Versioning element name.
+     */
+    private static final String VERSIONING = "versioning";
+
+    /**
+     * Xml output factory.
+     */
+    private static final XMLOutputFactory FACTORY = XMLOutputFactory.newInstance();
+
+    /**
+     * Source metadata xml.
+     */
+    private final byte[] source;
+
+    /**
+     * Versions.
+     */
+    private final Collection<String> versions;
+
+    /**
+     * Versions to write.
+     */
+    private final Iterator<String> items;
+
+    /**
+     * Chunk output.
+     */
+    private final ByteArrayOutputStream out;
+
+    /**
+     * Xml writer.
+     */
+    private final XMLStreamWriter xml;
+
+    /**
+     * Root element prefix and namespace, used for generated elements.
+     */
+    private final String[] root;
+
+    /**
+     * Source elements were written.
+     */
+    private boolean started;
+
+    /**
+     * Ctor.
+     * @param source Source metadata xml
+     * @param versions Versions
+     * @throws XMLStreamException On xml error
+     */
+    private MetadataWriter(final byte[] source, final Collection<String> versions)
+        throws XMLStreamException {
+        this.source = source;
+        this.versions = versions;
+        this.items = versions.iterator();
+        this.out = new ByteArrayOutputStream();
+        this.xml = MetadataWriter.FACTORY.createXMLStreamWriter(
+            this.out, StandardCharsets.UTF_8.name()
+        );
+        this.root = new String[]{"", ""};
+    }
+
+    /**
+     * Metadata xml chunks.
+     * @param source Source metadata xml
+     * @param versions Versions
+     * @return Flowable of metadata xml chunks
+     */
+    static Flowable<ByteBuffer> chunks(final byte[] source, final Collection<String> versions) {
+        return Flowable.generate(
+            () -> new MetadataWriter(source, versions),
+            MetadataWriter::next,
+            MetadataWriter::close
+        );
+    }
+
+    /**
+     * Write next chunk.
+     * @param emitter Chunks emitter
+     * @throws XMLStreamException On xml error
+     */
+    private void next(final Emitter<ByteBuffer> emitter) throws XMLStreamException {
+        boolean done = false;
+        if (this.started) {
+            int count = 0;
+            while (count < MetadataWriter.BATCH && this.items.hasNext()) {
+                this.element("      ", "version", this.items.next());
+                count += 1;
+            }
+            if (!this.items.hasNext()) {
+                this.tail();
+                done = true;
+            }
+        } else {
+            this.head();
+            this.started = true;
+        }
+        this.xml.flush();
+        emitter.onNext(ByteBuffer.wrap(this.out.toByteArray()));
+        this.out.reset();
+        if (done) {
+            emitter.onComplete();
+        }
+    }
+
+    /**
+     * Copy source metadata without versioning and start versioning element.
+     * @throws XMLStreamException On xml error
+     * @checkstyle CyclomaticComplexityCheck (50 lines)
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    private void head() throws XMLStreamException {
+        this.xml.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+        this.xml.writeCharacters("\n");
+        final XMLStreamReader reader = MetadataReader.factory().createXMLStreamReader(
+            new ByteArrayInputStream(this.source)
+        );
+        try {
+            int depth = 0;
+            while (reader.hasNext() && depth >= 0) {
+                final int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth += 1;
+                    if (depth == 1) {
+                        this.root[0] = Optional.ofNullable(reader.getPrefix()).orElse("");
+                        this.root[1] = Optional.ofNullable(reader.getNamespaceURI()).orElse("");
+                    }
+                    if (depth == 2 && MetadataWriter.VERSIONING.equals(reader.getLocalName())) {
+                        MetadataWriter.skip(reader);
+                        depth -= 1;
+                    } else {
+                        if (depth == 2) {
+                            this.xml.writeCharacters("\n  ");
+                        }
+                        this.copy(reader);
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth -= 1;
+                    if (depth > 0) {
+                        this.xml.writeEndElement();
+                    } else {
+                        depth = -1;
+                    }
+                } else if (event == XMLStreamConstants.CHARACTERS && depth > 1
+                    || event == XMLStreamConstants.CDATA) {
+                    this.xml.writeCharacters(reader.getText());
+                } else if (event == XMLStreamConstants.COMMENT && depth > 1) {
+                    this.xml.writeComment(reader.getText());
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        this.xml.writeCharacters("\n  ");
+        this.start(MetadataWriter.VERSIONING);
+        this.versions.stream().map(Version::new).max(Comparator.naturalOrder())
+            .ifPresent(latest -> this.quietly("    ", "latest", latest.toString()));
+        this.versions.stream().filter(version -> !version.endsWith("SNAPSHOT"))
+            .map(Version::new).max(Comparator.naturalOrder())
+            .ifPresent(release -> this.quietly("    ", "release", release.toString()));
+        this.xml.writeCharacters("\n    ");
+        this.start("versions");
+    }
+
+    /**
+     * Finish versions, versioning and metadata elements.
+     * @throws XMLStreamException On xml error
+     */
+    private void tail() throws XMLStreamException {
+        this.xml.writeCharacters("\n    ");
+        this.xml.writeEndElement();
+        this.element("    ", "lastUpdated", String.valueOf(Instant.now().toEpochMilli()));
+        this.xml.writeCharacters("\n  ");
+        this.xml.writeEndElement();
+        this.xml.writeCharacters("\n");
+        this.xml.writeEndElement();
+        this.xml.writeCharacters("\n");
+        this.xml.writeEndDocument();
+    }
+
+    /**
+     * Copy start element with namespaces and attributes.
+     * @param reader Reader positioned on element start
+     * @throws XMLStreamException On xml error
+     */
+    private void copy(final XMLStreamReader reader) throws XMLStreamException {
+        this.xml.writeStartElement(
+            Optional.ofNullable(reader.getPrefix()).orElse(""),
+            reader.getLocalName(),
+            Optional.ofNullable(reader.getNamespaceURI()).orElse("")
+        );
+        for (int idx = 0; idx < reader.getNamespaceCount(); ++idx) {
+            final String prefix = reader.getNamespacePrefix(idx);
+            if (prefix == null || prefix.isEmpty()) {
+                this.xml.writeDefaultNamespace(reader.getNamespaceURI(idx));
+            } else {
+                this.xml.writeNamespace(prefix, reader.getNamespaceURI(idx));
+            }
+        }
+        for (int idx = 0; idx < reader.getAttributeCount(); ++idx) {
+            this.xml.writeAttribute(
+                Optional.ofNullable(reader.getAttributePrefix(idx)).orElse(""),
+                Optional.ofNullable(reader.getAttributeNamespace(idx)).orElse(""),
+                reader.getAttributeLocalName(idx),
+                reader.getAttributeValue(idx)
+            );
+        }
+    }
+
+    /**
+     * Start generated element in root element namespace.
+     * @param name Element name
+     * @throws XMLStreamException On xml error
+     */
+    private void start(final String name) throws XMLStreamException {
+        this.xml.writeStartElement(this.root[0], name, this.root[1]);
+    }
+
+    /**
+     * Write generated element with text.
+     * @param indent Indent
+     * @param name Element name
+     * @param text Element text
+     * @throws XMLStreamException On xml error
+     */
+    private void element(final String indent, final String name, final String text)
+        throws XMLStreamException {
+        this.xml.writeCharacters(String.format("\n%s", indent));
+        this.start(name);
+        this.xml.writeCharacters(text);
+        this.xml.writeEndElement();
+    }
+
+    /**
+     * Write generated element with text, wrapping xml error to unchecked exception.
+     * @param indent Indent
+     * @param name Element name
+     * @param text Element text
+     */
+    private void quietly(final String indent, final String name, final String text) {
+        try {
+            this.element(indent, name, text);
+        } catch (final XMLStreamException err) {
+            throw new IllegalStateException(err);
+        }
+    }
+
+    /**
+     * Close xml writer.
+     * @throws XMLStreamException On xml error
+     */
+    private void close() throws XMLStreamException {
+        this.xml.close();
+    }
+
+    /**
+     * Skip current element with all its content.
+     * @param reader Reader positioned on element start
+     * @throws XMLStreamException On xml error
+     */
+    private static void skip(final XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth += 1;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth -= 1;
+            }
+        }
+    }
+}
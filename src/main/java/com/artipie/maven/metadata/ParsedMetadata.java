@@ -0,0 +1,160 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.metadata;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Artifact information from {@code maven-metadata.xml}: group and artifact ids,
+ * versions, latest and release versions, top-level version of snapshot
+ * version metadata.
+ * @see MetadataReader
+ * @since 0.12
+ */
+public final class ParsedMetadata {
+
+    /**
+     * Group id.
+     */
+    private final Optional<String> grp;
+
+    /**
+     * Artifact id.
+     */
+    private final Optional<String> art;
+
+    /**
+     * Versions.
+     */
+    private final List<String> vers;
+
+    /**
+     * Latest version.
+     */
+    private final Optional<String> ltst;
+
+    /**
+     * Release version.
+     */
+    private final Optional<String> rls;
+
+    /**
+     * Top-level version.
+     */
+    private final Optional<String> ver;
+
+    /**
+     * Ctor.
+     * @param group Group id
+     * @param artifact Artifact id
+     * @param versions Versions
+     * @param latest Latest version
+     * @param release Release version
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public ParsedMetadata(final Optional<String> group, final Optional<String> artifact,
+        final List<String> versions, final Optional<String> latest,
+        final Optional<String> release) {
+        this(group, artifact, versions, latest, release, Optional.empty());
+    }
+
+    /**
+     * Ctor.
+     * @param group Group id
+     * @param artifact Artifact id
+     * @param versions Versions
+     * @param latest Latest version
+     * @param release Release version
+     * @param version Top-level version
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public ParsedMetadata(final Optional<String> group, final Optional<String> artifact,
+        final List<String> versions, final Optional<String> latest,
+        final Optional<String> release, final Optional<String> version) {
+        this.grp = group;
+        this.art = artifact;
+        this.vers = Collections.unmodifiableList(versions);
+        this.ltst = latest;
+        this.rls = release;
+        this.ver = version;
+    }
+
+    /**
+     * Group id.
+     * @return Group id
+     * @throws IllegalArgumentException If metadata has no group id
+     */
+    public String group() {
+        return this.grp.orElseThrow(
+            () -> new IllegalArgumentException("Maven metadata xml not valid: groupId not found")
+        );
+    }
+
+    /**
+     * Artifact id.
+     * @return Artifact id
+     * @throws IllegalArgumentException If metadata has no artifact id
+     */
+    public String artifact() {
+        return this.art.orElseThrow(
+            () -> new IllegalArgumentException(
+                "Maven metadata xml not valid: artifactId not found"
+            )
+        );
+    }
+
+    /**
+     * Versions.
+     * @return Versions list
+     */
+    public List<String> versions() {
+        return this.vers;
+    }
+
+    /**
+     * Latest version.
+     * @return Latest version if present
+     */
+    public Optional<String> latest() {
+        return this.ltst;
+    }
+
+    /**
+     * Release version.
+     * @return Release version if present
+     */
+    public Optional<String> release() {
+        return this.rls;
+    }
+
+    /**
+     * Top-level version, it's present in metadata of snapshot version.
+     * @return Version if present
+     */
+    public Optional<String> version() {
+        return this.ver;
+    }
+}
@@ -23,11 +23,20 @@
  */
 package com.artipie.maven.metadata;
 
-import java.util.Arrays;
-import java.util.stream.Stream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * Artifact version.
+ * <p>
+ * Version is parsed once on creation into items of numbers and qualifiers,
+ * versions are compared by Maven {@code ComparableVersion} rules: qualifiers
+ * {@code alpha < beta < milestone < rc < snapshot < release < sp}, unknown
+ * qualifiers are greater than known ones and are compared lexically.
+ * Callers which compare the same version many times (sorting, max search)
+ * should create {@link Version} instance once per version string.
+ * </p>
  * @since 0.5
  */
 public final class Version implements Comparable<Version> {
@@ -37,29 +46,128 @@ public final class Version implements Comparable<Version> {
      */
     private final String value;
 
+    /**
+     * Parsed version items.
+     */
+    private final VersionItem items;
+
     /**
      * Ctor.
      * @param value Version as string
      */
     public Version(final String value) {
         this.value = value;
+        this.items = Version.parse(value);
     }
 
     @Override
     public int compareTo(final Version another) {
-        return Arrays.compare(
-            stringVersionToIntArray(this.value), stringVersionToIntArray(another.value)
-        );
+        return Integer.signum(this.items.compare(another.items));
+    }
+
+    @Override
+    public String toString() {
+        return this.value;
     }
 
     /**
-     * Transforms.
-     * @param version Version to clean
-     * @return Version without snapshot
+     * Parse version string into items.
+     * @param value Version string
+     * @return Items sequence
+     * @checkstyle CyclomaticComplexityCheck (50 lines)
      */
-    private static int[] stringVersionToIntArray(final String version) {
-        return Stream.of(version.replace("-SNAPSHOT", "").split("\\."))
-            .mapToInt(Integer::parseInt).toArray();
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    private static VersionItem parse(final String value) {
+        final String version = value.toLowerCase(Locale.ENGLISH);
+        final List<Object> root = new ArrayList<>(4);
+        List<Object> list = root;
+        boolean digit = false;
+        int start = 0;
+        for (int idx = 0; idx < version.length(); ++idx) {
+            final char chr = version.charAt(idx);
+            if (chr == '.') {
+                list.add(Version.item(version, start, idx, digit));
+                start = idx + 1;
+            } else if (chr == '-') {
+                list.add(Version.item(version, start, idx, digit));
+                start = idx + 1;
+                list = Version.sublist(list);
+            } else if (Character.isDigit(chr)) {
+                if (!digit && idx > start) {
+                    list.add(new VersionItem.Qualifier(version.substring(start, idx), true));
+                    start = idx;
+                    list = Version.sublist(list);
+                }
+                digit = true;
+            } else {
+                if (digit && idx > start) {
+                    list.add(new VersionItem.Number(version.substring(start, idx)));
+                    start = idx;
+                    list = Version.sublist(list);
+                }
+                digit = false;
+            }
+        }
+        if (version.length() > start) {
+            list.add(Version.item(version, start, version.length(), digit));
+        }
+        return Version.sequence(root);
     }
 
+    /**
+     * Create item from version part, empty part is zero.
+     * @param version Version
+     * @param start Part start
+     * @param end Part end
+     * @param digit Whether part is numeric
+     * @return Item
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static VersionItem item(final String version, final int start, final int end,
+        final boolean digit) {
+        final VersionItem res;
+        if (digit || start == end) {
+            res = new VersionItem.Number(version.substring(start, end));
+        } else {
+            res = new VersionItem.Qualifier(version.substring(start, end), false);
+        }
+        return res;
+    }
+
+    /**
+     * Add new sublist to list.
+     * @param list List
+     * @return Added sublist
+     */
+    private static List<Object> sublist(final List<Object> list) {
+        final List<Object> res = new ArrayList<>(2);
+        list.add(res);
+        return res;
+    }
+
+    /**
+     * Create items sequence from parsed list, trailing empty items are removed.
+     * @param list List of items and sublists
+     * @return Sequence
+     */
+    @SuppressWarnings("unchecked")
+    private static VersionItem sequence(final List<Object> list) {
+        final List<VersionItem> items = new ArrayList<>(list.size());
+        for (final Object item : list) {
+            if (item instanceof List) {
+                items.add(Version.sequence((List<Object>) item));
+            } else {
+                items.add((VersionItem) item);
+            }
+        }
+        int idx = items.size() - 1;
+        while (idx >= 0
+            && (items.get(idx).empty() || items.get(idx).kind() == VersionItem.SEQUENCE)) {
+            if (items.get(idx).empty()) {
+                items.remove(idx);
+            }
+            idx -= 1;
+        }
+        return new VersionItem.Sequence(items.toArray(new VersionItem[0]));
+    }
 }
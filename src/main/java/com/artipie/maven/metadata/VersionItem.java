@@ -0,0 +1,341 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.metadata;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Parsed version item: number, qualifier or sequence of items.
+ * Items are immutable, they are compared without allocations.
+ * See Maven {@code ComparableVersion} for comparison rules.
+ * @since 0.12
+ */
+interface VersionItem {
+
+    /**
+     * Number item kind.
+     */
+    int NUMBER = 0;
+
+    /**
+     * Qualifier item kind.
+     */
+    int QUALIFIER = 1;
+
+    /**
+     * Sequence item kind.
+     */
+    int SEQUENCE = 2;
+
+    /**
+     * Item kind.
+     * @return One of {@link #NUMBER}, {@link #QUALIFIER} or {@link #SEQUENCE}
+     */
+    int kind();
+
+    /**
+     * Compare with other item.
+     * @param other Other item, null means absent item
+     * @return Comparison result
+     */
+    int compare(VersionItem other);
+
+    /**
+     * Whether item is equal to absent one, such items are trimmed from sequence end.
+     * @return True if item is null-equivalent
+     */
+    boolean empty();
+
+    /**
+     * Number item.
+     * @since 0.12
+     */
+    final class Number implements VersionItem {
+
+        /**
+         * Max digits count which fits into long.
+         */
+        private static final int MAX_LONG_DIGITS = 18;
+
+        /**
+         * Digits without leading zeros, empty for zero.
+         */
+        private final String digits;
+
+        /**
+         * Numeric value, or -1 if value doesn't fit into long.
+         */
+        private final long value;
+
+        /**
+         * Ctor.
+         * @param digits Digits
+         */
+        Number(final String digits) {
+            int start = 0;
+            while (start < digits.length() && digits.charAt(start) == '0') {
+                start += 1;
+            }
+            this.digits = digits.substring(start);
+            if (this.digits.length() > Number.MAX_LONG_DIGITS) {
+                this.value = -1;
+            } else if (this.digits.isEmpty()) {
+                this.value = 0;
+            } else {
+                this.value = Long.parseLong(this.digits);
+            }
+        }
+
+        @Override
+        public int kind() {
+            return VersionItem.NUMBER;
+        }
+
+        @Override
+        public int compare(final VersionItem other) {
+            final int res;
+            if (other == null) {
+                if (this.digits.isEmpty()) {
+                    res = 0;
+                } else {
+                    res = 1;
+                }
+            } else if (other.kind() == VersionItem.NUMBER) {
+                final Number num = (Number) other;
+                if (this.value >= 0 && num.value >= 0) {
+                    res = Long.compare(this.value, num.value);
+                } else if (this.digits.length() == num.digits.length()) {
+                    res = this.digits.compareTo(num.digits);
+                } else {
+                    res = Integer.compare(this.digits.length(), num.digits.length());
+                }
+            } else {
+                res = 1;
+            }
+            return res;
+        }
+
+        @Override
+        public boolean empty() {
+            return this.digits.isEmpty();
+        }
+    }
+
+    /**
+     * Qualifier item.
+     * @since 0.12
+     */
+    final class Qualifier implements VersionItem {
+
+        /**
+         * Known qualifiers in ascending order, empty string stands for release.
+         */
+        private static final List<String> KNOWN = Arrays.asList(
+            "alpha", "beta", "milestone", "rc", "snapshot", "", "sp"
+        );
+
+        /**
+         * Release rank.
+         */
+        private static final int RELEASE = Qualifier.KNOWN.indexOf("");
+
+        /**
+         * Qualifier value.
+         */
+        private final String value;
+
+        /**
+         * Qualifier rank: index of known qualifier, or number of known
+         * qualifiers for unknown one.
+         */
+        private final int rank;
+
+        /**
+         * Ctor.
+         * @param value Qualifier value in lower case
+         * @param digit Whether qualifier is followed by digit
+         */
+        Qualifier(final String value, final boolean digit) {
+            this.value = Qualifier.alias(value, digit);
+            final int idx = Qualifier.KNOWN.indexOf(this.value);
+            if (idx < 0) {
+                this.rank = Qualifier.KNOWN.size();
+            } else {
+                this.rank = idx;
+            }
+        }
+
+        @Override
+        public int kind() {
+            return VersionItem.QUALIFIER;
+        }
+
+        @Override
+        public int compare(final VersionItem other) {
+            final int res;
+            if (other == null) {
+                res = Integer.compare(this.rank, Qualifier.RELEASE);
+            } else if (other.kind() == VersionItem.QUALIFIER) {
+                final Qualifier qlf = (Qualifier) other;
+                if (this.rank == qlf.rank && this.rank == Qualifier.KNOWN.size()) {
+                    res = this.value.compareTo(qlf.value);
+                } else {
+                    res = Integer.compare(this.rank, qlf.rank);
+                }
+            } else {
+                res = -1;
+            }
+            return res;
+        }
+
+        @Override
+        public boolean empty() {
+            return this.rank == Qualifier.RELEASE;
+        }
+
+        /**
+         * Resolve qualifier alias.
+         * @param value Qualifier
+         * @param digit Whether qualifier is followed by digit
+         * @return Canonical qualifier
+         * @checkstyle CyclomaticComplexityCheck (30 lines)
+         */
+        @SuppressWarnings("PMD.CyclomaticComplexity")
+        private static String alias(final String value, final boolean digit) {
+            final String res;
+            if (digit && "a".equals(value)) {
+                res = "alpha";
+            } else if (digit && "b".equals(value)) {
+                res = "beta";
+            } else if (digit && "m".equals(value)) {
+                res = "milestone";
+            } else if ("ga".equals(value) || "final".equals(value) || "release".equals(value)) {
+                res = "";
+            } else if ("cr".equals(value)) {
+                res = "rc";
+            } else {
+                final int idx = Qualifier.KNOWN.indexOf(value);
+                if (idx < 0) {
+                    res = value;
+                } else {
+                    res = Qualifier.KNOWN.get(idx);
+                }
+            }
+            return res;
+        }
+    }
+
+    /**
+     * Sequence of items.
+     * @since 0.12
+     */
+    final class Sequence implements VersionItem {
+
+        /**
+         * Items.
+         */
+        private final VersionItem[] items;
+
+        /**
+         * Ctor.
+         * @param items Items
+         */
+        Sequence(final VersionItem... items) {
+            this.items = items;
+        }
+
+        @Override
+        public int kind() {
+            return VersionItem.SEQUENCE;
+        }
+
+        @Override
+        public int compare(final VersionItem other) {
+            int res;
+            if (other == null) {
+                if (this.items.length == 0) {
+                    res = 0;
+                } else {
+                    res = this.items[0].compare(null);
+                }
+            } else if (other.kind() == VersionItem.NUMBER) {
+                res = -1;
+            } else if (other.kind() == VersionItem.QUALIFIER) {
+                res = 1;
+            } else {
+                final VersionItem[] right = ((Sequence) other).items;
+                res = 0;
+                for (int idx = 0; res == 0 && idx < Math.max(this.items.length, right.length);
+                    ++idx) {
+                    res = Sequence.compare(
+                        Sequence.item(this.items, idx), Sequence.item(right, idx)
+                    );
+                }
+            }
+            return res;
+        }
+
+        @Override
+        public boolean empty() {
+            return this.items.length == 0;
+        }
+
+        /**
+         * Compare items, any of them may be absent.
+         * @param left Left item
+         * @param right Right item
+         * @return Comparison result
+         */
+        private static int compare(final VersionItem left, final VersionItem right) {
+            final int res;
+            if (left == null) {
+                if (right == null) {
+                    res = 0;
+                } else {
+                    res = -right.compare(null);
+                }
+            } else {
+                res = left.compare(right);
+            }
+            return res;
+        }
+
+        /**
+         * Item by index.
+         * @param items Items
+         * @param idx Index
+         * @return Item or null if index is out of bounds
+         */
+        private static VersionItem item(final VersionItem[] items, final int idx) {
+            final VersionItem res;
+            if (idx < items.length) {
+                res = items[idx];
+            } else {
+                res = null;
+            }
+            return res;
+        }
+    }
+}
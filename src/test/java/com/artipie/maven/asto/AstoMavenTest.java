@@ -31,6 +31,7 @@ import com.artipie.asto.ext.KeyLastPart;
 import com.artipie.asto.ext.PublisherAs;
 import com.artipie.asto.memory.InMemoryStorage;
 import com.artipie.asto.test.TestResource;
+import com.artipie.maven.MetadataXml;
 import com.jcabi.matchers.XhtmlMatchers;
 import com.jcabi.xml.XML;
 import com.jcabi.xml.XMLDocument;
@@ -144,4 +145,65 @@ public final class AstoMavenTest {
         );
     }
 
+    @Test
+    void addsVersionToRepositoryMetadata() {
+        final BlockingStorage bsto = new BlockingStorage(this.storage);
+        new MetadataXml("com.test", "logger").addXmlToStorage(
+            this.storage, new Key.From(AstoMavenTest.PACKAGE, "maven-metadata.xml"),
+            new MetadataXml.VersionTags("0.5", "0.7")
+        );
+        bsto.save(new Key.From(AstoMavenTest.PACKAGE, "0.6/artifact-0.6.jar"), new byte[]{});
+        new AstoMaven(this.storage).update(AstoMavenTest.UPLOAD, AstoMavenTest.PACKAGE)
+            .toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            this.metadata(AstoMavenTest.UPLOAD),
+            new AllOf<>(
+                new ListOf<Matcher<? super XML>>(
+                    XhtmlMatchers.hasXPath("/metadata/versioning/versions/version[text() = '0.5']"),
+                    XhtmlMatchers.hasXPath("/metadata/versioning/versions/version[text() = '0.7']"),
+                    XhtmlMatchers.hasXPath("/metadata/versioning/versions/version[text() = '1.0']"),
+                    XhtmlMatchers.hasXPath("/metadata/versioning/versions[count(//version) = 3]"),
+                    XhtmlMatchers.hasXPath("/metadata/versioning/latest[text() = '1.0']")
+                )
+            )
+        );
+    }
+
+    @Test
+    void rebuildsMetadataFromStorage() {
+        final BlockingStorage bsto = new BlockingStorage(this.storage);
+        new MetadataXml("com.test", "logger").addXmlToStorage(
+            this.storage, new Key.From(AstoMavenTest.PACKAGE, "maven-metadata.xml"),
+            new MetadataXml.VersionTags("0.1", "0.8")
+        );
+        bsto.save(new Key.From(AstoMavenTest.PACKAGE, "0.8/artifact-0.8.jar"), new byte[]{});
+        bsto.save(new Key.From(AstoMavenTest.PACKAGE, "0.9/artifact-0.9.jar"), new byte[]{});
+        new AstoMaven(this.storage).rebuild(AstoMavenTest.PACKAGE).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            this.metadata(AstoMavenTest.PACKAGE),
+            new AllOf<>(
+                new ListOf<Matcher<? super XML>>(
+                    XhtmlMatchers.hasXPath("/metadata/groupId[text() = 'com.test']"),
+                    XhtmlMatchers.hasXPath("/metadata/versioning/versions/version[text() = '0.8']"),
+                    XhtmlMatchers.hasXPath("/metadata/versioning/versions/version[text() = '0.9']"),
+                    XhtmlMatchers.hasXPath("/metadata/versioning/versions[count(//version) = 2]"),
+                    XhtmlMatchers.hasXPath("/metadata/versioning/latest[text() = '0.9']")
+                )
+            )
+        );
+    }
+
+    /**
+     * Read metadata xml.
+     * @param location Metadata location
+     * @return Metadata xml
+     */
+    private XML metadata(final Key location) {
+        return new XMLDocument(
+            this.storage.value(new Key.From(location, "maven-metadata.xml"))
+                .thenCompose(content -> new PublisherAs(content).string(StandardCharsets.UTF_8))
+                .join()
+        );
+    }
+
 }
@@ -134,6 +134,21 @@ public final class AstoValidUploadTest {
         );
     }
 
+    @Test
+    void returnsFalseWhenOneOfArtifactChecksumsIsInvalid() {
+        final Key upload = new Key.From(".upload/com/test");
+        final Key jar = new Key.From(upload, "1.0/my-package.jar");
+        this.bsto.save(jar, "jar content".getBytes());
+        this.addMetadata(upload);
+        new RepositoryChecksums(this.storage).generate(jar).toCompletableFuture().join();
+        this.bsto.save(new Key.From(String.format("%s.md5", jar.string())), "000".getBytes());
+        MatcherAssert.assertThat(
+            this.validupload.validate(upload, new Key.From("com/test"))
+                .toCompletableFuture().join(),
+            new IsEqual<>(false)
+        );
+    }
+
     private void addMetadata(final Key base) {
         new TestResource("maven-metadata.xml.example")
             .saveTo(this.storage, new Key.From(base, "maven-metadata.xml"));
@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.memory.InMemoryStorage;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link Children}.
+ * @since 0.12
+ */
+final class ChildrenTest {
+
+    @Test
+    void listsFirstLevelNames() {
+        final Storage storage = new InMemoryStorage();
+        storage.save(new Key.From("com/test/1.0/test-1.0.jar"), Content.EMPTY).join();
+        storage.save(new Key.From("com/test/1.0/test-1.0.pom"), Content.EMPTY).join();
+        storage.save(new Key.From("com/test/2.0/test-2.0.jar"), Content.EMPTY).join();
+        storage.save(new Key.From("com/test/maven-metadata.xml"), Content.EMPTY).join();
+        MatcherAssert.assertThat(
+            ChildrenTest.names(new Children(storage).keys(new Key.From("com/test")).join()),
+            Matchers.containsInAnyOrder(
+                "com/test/1.0", "com/test/2.0", "com/test/maven-metadata.xml"
+            )
+        );
+    }
+
+    @Test
+    void usesHierarchicalListing() {
+        MatcherAssert.assertThat(
+            ChildrenTest.names(
+                new Children(new Listing()).keys(new Key.From("any")).join()
+            ),
+            Matchers.contains("any/child")
+        );
+    }
+
+    @Test
+    void decoratorsKeepHierarchicalListing() {
+        MatcherAssert.assertThat(
+            ChildrenTest.names(
+                new Children(
+                    new InvalidatingStorage(
+                        new DigestingStorage(new Listing(), new SavedDigests()), key -> { }
+                    )
+                ).keys(new Key.From("some")).join()
+            ),
+            Matchers.contains("some/child")
+        );
+    }
+
+    /**
+     * Key names.
+     * @param keys Keys
+     * @return Names
+     */
+    private static Collection<String> names(final Collection<Key> keys) {
+        return keys.stream().map(Key::string).collect(Collectors.toList());
+    }
+
+    /**
+     * Empty storage with hierarchical listing, which returns one child for any key.
+     * @since 0.12
+     */
+    private static final class Listing extends Storage.Wrap implements HierarchicalListing {
+
+        /**
+         * Ctor.
+         */
+        Listing() {
+            super(new InMemoryStorage());
+        }
+
+        @Override
+        public CompletableFuture<Collection<Key>> children(final Key prefix) {
+            return CompletableFuture.completedFuture(
+                Collections.singleton(new Key.From(prefix, "child"))
+            );
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.asto.memory.InMemoryStorage;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link ContentCache}.
+ * @since 0.12
+ */
+final class ContentCacheTest {
+
+    @Test
+    void servesSmallItemFromMemory() {
+        final Storage storage = new InMemoryStorage();
+        final Key key = new Key.From("com/test/maven-metadata.xml.sha1");
+        final ContentCache cache = new ContentCache();
+        ContentCacheTest.save(storage, key, "first");
+        ContentCacheTest.read(cache, storage, key);
+        ContentCacheTest.save(storage, key, "second");
+        MatcherAssert.assertThat(
+            "Returns cached content twice",
+            ContentCacheTest.read(cache, storage, key)
+                + ContentCacheTest.read(cache, storage, key),
+            new IsEqual<>("firstfirst")
+        );
+        cache.invalidate(key);
+        MatcherAssert.assertThat(
+            "Reads storage after invalidation",
+            ContentCacheTest.read(cache, storage, key),
+            new IsEqual<>("second")
+        );
+    }
+
+    @Test
+    void doesNotCacheBigItem() {
+        final Storage storage = new InMemoryStorage();
+        final Key key = new Key.From("com/test/lib.jar");
+        final ContentCache cache = new ContentCache(4, 100);
+        ContentCacheTest.save(storage, key, "large");
+        ContentCacheTest.read(cache, storage, key);
+        ContentCacheTest.save(storage, key, "other");
+        MatcherAssert.assertThat(
+            ContentCacheTest.read(cache, storage, key),
+            new IsEqual<>("other")
+        );
+    }
+
+    @Test
+    void doesNotCacheContentReadDuringInvalidation() {
+        final Key key = new Key.From("com/test/maven-metadata.xml");
+        final CompletableFuture<Void> started = new CompletableFuture<>();
+        final CompletableFuture<Void> gate = new CompletableFuture<>();
+        final Storage storage = new Gated(started, gate);
+        final ContentCache cache = new ContentCache();
+        ContentCacheTest.save(storage, key, "old");
+        final CompletableFuture<String> reading = cache.value(storage, key)
+            .thenCompose(content -> new PublisherAs(content).string(StandardCharsets.UTF_8))
+            .toCompletableFuture();
+        started.join();
+        ContentCacheTest.save(storage, key, "new");
+        cache.invalidate(key);
+        gate.complete(null);
+        MatcherAssert.assertThat(
+            "Returns content read before invalidation",
+            reading.join(),
+            new IsEqual<>("old")
+        );
+        MatcherAssert.assertThat(
+            "Reads storage after invalidation",
+            ContentCacheTest.read(cache, storage, key),
+            new IsEqual<>("new")
+        );
+    }
+
+    /**
+     * Save item.
+     * @param storage Storage
+     * @param key Key
+     * @param text Item content
+     */
+    private static void save(final Storage storage, final Key key, final String text) {
+        storage.save(key, new Content.From(text.getBytes(StandardCharsets.UTF_8))).join();
+    }
+
+    /**
+     * Read item through cache.
+     * @param cache Cache
+     * @param storage Storage
+     * @param key Key
+     * @return Item content
+     */
+    private static String read(final ContentCache cache, final Storage storage, final Key key) {
+        return cache.value(storage, key)
+            .thenCompose(content -> new PublisherAs(content).string(StandardCharsets.UTF_8))
+            .toCompletableFuture().join();
+    }
+
+    /**
+     * Storage which reads item values at once, but returns them only after
+     * the gate is open.
+     * @since 0.12
+     */
+    private static final class Gated implements Storage {
+
+        /**
+         * Origin storage.
+         */
+        private final Storage origin;
+
+        /**
+         * Completed when item value is read.
+         */
+        private final CompletableFuture<Void> started;
+
+        /**
+         * Gate.
+         */
+        private final CompletableFuture<Void> gate;
+
+        /**
+         * Ctor.
+         * @param started Completed when item value is read
+         * @param gate Gate
+         */
+        Gated(final CompletableFuture<Void> started, final CompletableFuture<Void> gate) {
+            this.origin = new InMemoryStorage();
+            this.started = started;
+            this.gate = gate;
+        }
+
+        @Override
+        public CompletableFuture<Boolean> exists(final Key key) {
+            return this.origin.exists(key);
+        }
+
+        @Override
+        public CompletableFuture<Collection<Key>> list(final Key prefix) {
+            return this.origin.list(prefix);
+        }
+
+        @Override
+        public CompletableFuture<Void> save(final Key key, final Content content) {
+            return this.origin.save(key, content);
+        }
+
+        @Override
+        public CompletableFuture<Void> move(final Key source, final Key destination) {
+            return this.origin.move(source, destination);
+        }
+
+        @Override
+        public CompletableFuture<Long> size(final Key key) {
+            return this.origin.size(key);
+        }
+
+        @Override
+        public CompletableFuture<Content> value(final Key key) {
+            return this.origin.value(key)
+                .thenCompose(content -> new PublisherAs(content).bytes())
+                .thenCompose(
+                    bytes -> {
+                        this.started.complete(null);
+                        return this.gate.thenApply(open -> new Content.From(bytes));
+                    }
+                );
+        }
+
+        @Override
+        public CompletableFuture<Void> delete(final Key key) {
+            return this.origin.delete(key);
+        }
+
+        @Override
+        public <T> CompletionStage<T> exclusively(final Key key,
+            final Function<Storage, CompletionStage<T>> operation) {
+            return this.origin.exclusively(key, operation);
+        }
+    }
+}
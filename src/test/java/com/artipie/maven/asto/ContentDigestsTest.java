@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.asto;
+
+import com.artipie.asto.Content;
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link ContentDigests}.
+ * @since 0.12
+ */
+final class ContentDigestsTest {
+
+    @Test
+    void calculatesAllDigestsReadingContentOnce() {
+        final String first = "first part of content, ";
+        final String second = "second part of content";
+        final byte[] data = String.join("", first, second).getBytes(StandardCharsets.UTF_8);
+        MatcherAssert.assertThat(
+            new ContentDigests(
+                new Content.OneTime(
+                    new Content.From(
+                        Flowable.fromArray(
+                            ByteBuffer.wrap(first.getBytes(StandardCharsets.UTF_8)),
+                            ByteBuffer.wrap(second.getBytes(StandardCharsets.UTF_8))
+                        )
+                    )
+                ),
+                List.of("md5", "sha1", "sha256", "sha512")
+            ).hex().toCompletableFuture().join(),
+            Matchers.allOf(
+                Matchers.hasEntry("md5", DigestUtils.md5Hex(data)),
+                Matchers.hasEntry("sha1", DigestUtils.sha1Hex(data)),
+                Matchers.hasEntry("sha256", DigestUtils.sha256Hex(data)),
+                Matchers.hasEntry("sha512", DigestUtils.sha512Hex(data))
+            )
+        );
+    }
+
+    @Test
+    void calculatesDigestsOfEmptyContent() {
+        MatcherAssert.assertThat(
+            new ContentDigests(Content.EMPTY, List.of("sha1")).hex()
+                .toCompletableFuture().join(),
+            Matchers.hasEntry("sha1", DigestUtils.sha1Hex(new byte[0]))
+        );
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.asto.memory.InMemoryStorage;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link DigestingStorage}.
+ * @since 0.12
+ */
+final class DigestingStorageTest {
+
+    /**
+     * Origin storage.
+     */
+    private Storage origin;
+
+    /**
+     * Saved digests.
+     */
+    private SavedDigests digests;
+
+    /**
+     * Storage to test.
+     */
+    private Storage storage;
+
+    @BeforeEach
+    void init() {
+        this.origin = new InMemoryStorage();
+        this.digests = new SavedDigests();
+        this.storage = new DigestingStorage(this.origin, this.digests);
+    }
+
+    @Test
+    void savesContentAndRemembersDigests() {
+        final Key key = new Key.From("com/test/1.0/test-1.0.jar");
+        final byte[] data = "jar content".getBytes(StandardCharsets.UTF_8);
+        this.storage.save(key, new Content.From(data)).join();
+        MatcherAssert.assertThat(
+            "Saves content to origin",
+            new PublisherAs(this.origin.value(key).join()).bytes().toCompletableFuture().join(),
+            new IsEqual<>(data)
+        );
+        MatcherAssert.assertThat(
+            "Remembers digests",
+            this.digests.get(key).get(),
+            Matchers.allOf(
+                Matchers.hasEntry("md5", DigestUtils.md5Hex(data)),
+                Matchers.hasEntry("sha1", DigestUtils.sha1Hex(data)),
+                Matchers.hasEntry("sha256", DigestUtils.sha256Hex(data)),
+                Matchers.hasEntry("sha512", DigestUtils.sha512Hex(data))
+            )
+        );
+    }
+
+    @Test
+    void forgetsDigestsOnDelete() {
+        final Key key = new Key.From("some/item.pom");
+        this.storage.save(key, new Content.From("pom".getBytes())).join();
+        this.storage.delete(key).join();
+        MatcherAssert.assertThat(
+            this.digests.get(key),
+            new IsEqual<>(Optional.empty())
+        );
+    }
+
+    @Test
+    void movesDigestsWithItem() {
+        final Key source = new Key.From("source.jar");
+        final Key dest = new Key.From("dest.jar");
+        final byte[] data = "moved".getBytes(StandardCharsets.UTF_8);
+        this.storage.save(source, new Content.From(data)).join();
+        this.storage.move(source, dest).join();
+        MatcherAssert.assertThat(
+            "Digests are available by destination key",
+            this.digests.get(dest, "sha1"),
+            new IsEqual<>(Optional.of(DigestUtils.sha1Hex(data)))
+        );
+        MatcherAssert.assertThat(
+            "Digests are not available by source key",
+            this.digests.get(source),
+            new IsEqual<>(Optional.empty())
+        );
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test for {@link HierarchicalFileStorage}.
+ * @since 0.12
+ */
+final class HierarchicalFileStorageTest {
+
+    @Test
+    void listsImmediateChildren(@TempDir final Path dir) throws IOException {
+        final Storage storage = new HierarchicalFileStorage(dir);
+        storage.save(new Key.From("com/test/1.0/test-1.0.jar"), Content.EMPTY).join();
+        storage.save(new Key.From("com/test/2.0/sub/test-2.0.jar"), Content.EMPTY).join();
+        storage.save(new Key.From("com/test/maven-metadata.xml"), Content.EMPTY).join();
+        Files.createDirectories(dir.resolve("com/test/3.0/empty"));
+        MatcherAssert.assertThat(
+            new Children(storage).keys(new Key.From("com/test")).join().stream()
+                .map(Key::string).collect(Collectors.toList()),
+            Matchers.containsInAnyOrder(
+                "com/test/1.0", "com/test/2.0", "com/test/maven-metadata.xml"
+            )
+        );
+    }
+
+    @Test
+    void listsNothingForMissingKey(@TempDir final Path dir) {
+        MatcherAssert.assertThat(
+            new HierarchicalFileStorage(dir).children(new Key.From("com/missing")).join(),
+            Matchers.empty()
+        );
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.memory.InMemoryStorage;
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link InvalidatingStorage}.
+ * @since 0.12
+ */
+final class InvalidatingStorageTest {
+
+    @Test
+    void invalidatesSavedItem() {
+        final List<String> invalidated = new ArrayList<>(0);
+        new InvalidatingStorage(new InMemoryStorage(), key -> invalidated.add(key.string()))
+            .save(new Key.From("a/maven-metadata.xml"), Content.EMPTY).join();
+        MatcherAssert.assertThat(
+            invalidated,
+            Matchers.contains("a/maven-metadata.xml", "a/maven-metadata.xml")
+        );
+    }
+
+    @Test
+    void invalidatesMovedItems() {
+        final List<String> invalidated = new ArrayList<>(0);
+        final InvalidatingStorage storage = new InvalidatingStorage(
+            new InMemoryStorage(), key -> invalidated.add(key.string())
+        );
+        storage.save(new Key.From("src"), Content.EMPTY).join();
+        invalidated.clear();
+        storage.move(new Key.From("src"), new Key.From("dest")).join();
+        MatcherAssert.assertThat(
+            invalidated,
+            Matchers.hasItems("src", "dest")
+        );
+    }
+
+    @Test
+    void invalidatesItemsChangedExclusively() {
+        final List<String> invalidated = new ArrayList<>(0);
+        final Key key = new Key.From("locked/item");
+        new InvalidatingStorage(new InMemoryStorage(), item -> invalidated.add(item.string()))
+            .exclusively(key, target -> target.save(key, Content.EMPTY))
+            .toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            invalidated,
+            Matchers.hasItem("locked/item")
+        );
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.asto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link KeyedExecutor}.
+ * @since 0.12
+ */
+final class KeyedExecutorTest {
+
+    /**
+     * Pool.
+     */
+    private ExecutorService pool;
+
+    @BeforeEach
+    void init() {
+        this.pool = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.pool.shutdownNow();
+    }
+
+    @Test
+    void runsTasksWithSameKeyInOrder() {
+        final KeyedExecutor exec = new KeyedExecutor(this.pool);
+        final List<Integer> done = Collections.synchronizedList(new ArrayList<>(0));
+        final int count = 200;
+        CompletableFuture.allOf(
+            IntStream.range(0, count).mapToObj(
+                num -> exec.run(
+                    "com/test/logger",
+                    () -> CompletableFuture.runAsync(() -> done.add(num), this.pool)
+                ).toCompletableFuture()
+            ).toArray(CompletableFuture[]::new)
+        ).join();
+        MatcherAssert.assertThat(
+            done,
+            new IsEqual<>(IntStream.range(0, count).boxed().collect(Collectors.toList()))
+        );
+    }
+
+    @Test
+    void runsTasksWithDifferentKeysInParallel() throws Exception {
+        final KeyedExecutor exec = new KeyedExecutor(this.pool);
+        final CountDownLatch latch = new CountDownLatch(1);
+        final CompletableFuture<Boolean> waiting = exec.run(
+            "first",
+            () -> CompletableFuture.supplyAsync(
+                () -> {
+                    try {
+                        return latch.await(1, TimeUnit.MINUTES);
+                    } catch (final InterruptedException err) {
+                        Thread.currentThread().interrupt();
+                        return false;
+                    }
+                },
+                this.pool
+            )
+        ).toCompletableFuture();
+        exec.run("second", () -> CompletableFuture.runAsync(latch::countDown, this.pool));
+        MatcherAssert.assertThat(
+            waiting.get(1, TimeUnit.MINUTES),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void runsNextActionAfterStageOfPreviousAction() throws Exception {
+        final KeyedExecutor exec = new KeyedExecutor(this.pool);
+        final CompletableFuture<Void> gate = new CompletableFuture<>();
+        exec.run("com/test/action", () -> gate);
+        final CompletableFuture<Boolean> next = exec.run(
+            "com/test/action", () -> CompletableFuture.completedFuture(gate.isDone())
+        ).toCompletableFuture();
+        CompletableFuture.runAsync(
+            () -> gate.complete(null),
+            CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS)
+        );
+        MatcherAssert.assertThat(
+            next.get(1, TimeUnit.MINUTES),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void continuesAfterFailedAction() throws Exception {
+        final KeyedExecutor exec = new KeyedExecutor(this.pool);
+        final CompletableFuture<Void> failed = exec.<Void>run(
+            "failing",
+            () -> {
+                throw new IllegalStateException("Action failed");
+            }
+        ).toCompletableFuture();
+        MatcherAssert.assertThat(
+            "Action failure is returned",
+            failed.handle((nothing, err) -> err != null).get(1, TimeUnit.MINUTES),
+            new IsEqual<>(true)
+        );
+        MatcherAssert.assertThat(
+            "Next action is run",
+            exec.run("failing", () -> CompletableFuture.completedFuture("next"))
+                .toCompletableFuture().get(1, TimeUnit.MINUTES),
+            new IsEqual<>("next")
+        );
+    }
+}
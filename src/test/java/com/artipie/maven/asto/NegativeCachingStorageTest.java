@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.asto;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.memory.InMemoryStorage;
+import java.time.Duration;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link NegativeCachingStorage}.
+ * @since 0.12
+ */
+final class NegativeCachingStorageTest {
+
+    /**
+     * Item key.
+     */
+    private static final Key KEY = new Key.From("com/test/absent/1.0/absent-1.0.jar");
+
+    @Test
+    void remembersMissingItemUntilInvalidated() {
+        final Storage origin = new InMemoryStorage();
+        final MissingKeys missing = new MissingKeys();
+        final Storage storage = new NegativeCachingStorage(origin, missing);
+        MatcherAssert.assertThat(
+            "Item is missing",
+            storage.exists(NegativeCachingStorageTest.KEY).join(),
+            new IsEqual<>(false)
+        );
+        origin.save(NegativeCachingStorageTest.KEY, Content.EMPTY).join();
+        MatcherAssert.assertThat(
+            "Item is still known to be missing",
+            NegativeCachingStorageTest.found(storage),
+            new IsEqual<>(false)
+        );
+        missing.invalidate(NegativeCachingStorageTest.KEY);
+        MatcherAssert.assertThat(
+            "Item is found after invalidation",
+            NegativeCachingStorageTest.found(storage),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void forgetsMissingItemAfterTtl() throws Exception {
+        final Storage origin = new InMemoryStorage();
+        final Storage storage = new NegativeCachingStorage(
+            origin, new MissingKeys(10, Duration.ofMillis(1))
+        );
+        NegativeCachingStorageTest.found(storage);
+        origin.save(NegativeCachingStorageTest.KEY, Content.EMPTY).join();
+        Thread.sleep(2);
+        MatcherAssert.assertThat(
+            NegativeCachingStorageTest.found(storage),
+            new IsEqual<>(true)
+        );
+    }
+
+    /**
+     * Whether item value is found.
+     * @param storage Storage
+     * @return True if value was returned
+     */
+    private static boolean found(final Storage storage) {
+        return storage.value(NegativeCachingStorageTest.KEY)
+            .thenApply(content -> true)
+            .exceptionally(err -> false)
+            .join();
+    }
+}
@@ -30,7 +30,10 @@ import com.artipie.asto.blocking.BlockingStorage;
 import com.artipie.asto.ext.PublisherAs;
 import com.artipie.asto.memory.InMemoryStorage;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import org.apache.commons.codec.digest.DigestUtils;
+import org.cactoos.map.MapEntry;
+import org.cactoos.map.MapOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.hamcrest.core.IsEqual;
@@ -82,6 +85,21 @@ final class RepositoryChecksumsTest {
         );
     }
 
+    @Test
+    void skipsMissingChecksums() {
+        final Storage storage = new InMemoryStorage();
+        final Key artifact = new Key.From("com/test/2.0/my-package.pom");
+        final String sha1 = "a9993e364706816aba3e25717850c26c9cd0d89d";
+        storage.save(
+            new Key.From("com/test/2.0/my-package.pom.sha1"),
+            new Content.From(sha1.getBytes(StandardCharsets.UTF_8))
+        ).join();
+        MatcherAssert.assertThat(
+            new RepositoryChecksums(storage).checksums(artifact).toCompletableFuture().join(),
+            new IsEqual<>(Collections.singletonMap("sha1", sha1))
+        );
+    }
+
     @Test
     void generatesChecksums() {
         final Storage storage = new InMemoryStorage();
@@ -118,4 +136,28 @@ final class RepositoryChecksumsTest {
             new IsEqual<>(DigestUtils.md5Hex(content))
         );
     }
+
+    @Test
+    void generatesChecksumsFromSavedDigests() {
+        final Storage storage = new InMemoryStorage();
+        final Key key = new Key.From("com/test/1.0/saved.jar");
+        final SavedDigests digests = new SavedDigests();
+        final String sha = "saved-sha1";
+        digests.put(
+            key,
+            new MapOf<String, String>(
+                new MapEntry<>("sha1", sha),
+                new MapEntry<>("sha256", "saved-sha256"),
+                new MapEntry<>("sha512", "saved-sha512"),
+                new MapEntry<>("md5", "saved-md5")
+            )
+        );
+        new RepositoryChecksums(storage, digests).generate(key).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            new PublisherAs(
+                storage.value(new Key.From(String.format("%s.sha1", key.string()))).join()
+            ).asciiString().toCompletableFuture().join(),
+            new IsEqual<>(sha)
+        );
+    }
 }
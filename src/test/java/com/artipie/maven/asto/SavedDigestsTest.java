@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.asto;
+
+import com.artipie.asto.Key;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link SavedDigests}.
+ * @since 0.12
+ */
+final class SavedDigestsTest {
+
+    @Test
+    void remembersDigestsReadWithoutChanges() {
+        final SavedDigests digests = new SavedDigests();
+        final Key key = new Key.From("com/test/maven-metadata.xml");
+        final long start = digests.epoch();
+        digests.put(key, Collections.singletonMap("sha1", "abc"), start);
+        MatcherAssert.assertThat(
+            digests.get(key, "sha1").orElse(""),
+            new IsEqual<>("abc")
+        );
+    }
+
+    @Test
+    void forgetsDigestsReadBeforeRemoval() {
+        final SavedDigests digests = new SavedDigests();
+        final Key key = new Key.From("com/test/maven-metadata.xml");
+        final long start = digests.epoch();
+        digests.remove(key);
+        digests.put(key, Collections.singletonMap("sha1", "old"), start);
+        MatcherAssert.assertThat(
+            digests.get(key).isPresent(),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void keepsDigestsSavedWhileReading() {
+        final SavedDigests digests = new SavedDigests();
+        final Key key = new Key.From("com/test/maven-metadata.xml");
+        final long start = digests.epoch();
+        digests.put(key, Collections.singletonMap("sha1", "new"));
+        digests.put(key, Collections.singletonMap("sha1", "old"), start);
+        MatcherAssert.assertThat(
+            digests.get(key, "sha1").orElse(""),
+            new IsEqual<>("new")
+        );
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.cache;
+
+import java.time.Duration;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Test for {@link Freshness}.
+ * @since 0.12
+ */
+final class FreshnessTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "/com/artipie/asto/0.1/asto-0.1.jar,true",
+        "/com/artipie/asto/0.1/asto-0.1.pom,true",
+        "/com/artipie/asto/0.1/asto-0.1.jar.sha1,true",
+        "/com/artipie/asto/0.1-SNAPSHOT/asto-0.1-20200101.120000-1.jar,false",
+        "/com/artipie/asto/maven-metadata.xml,false",
+        "/com/artipie/asto/0.1/asto-0.1.war,false"
+    })
+    void checksFreshnessOfNotLoadedItem(final String path, final boolean fresh) {
+        MatcherAssert.assertThat(
+            new Freshness().fresh(path),
+            new IsEqual<>(fresh)
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "/com/artipie/asto/maven-metadata.xml,true",
+        "/com/artipie/asto/0.1-SNAPSHOT/maven-metadata.xml.sha1,true",
+        "/com/artipie/asto/0.1-SNAPSHOT/asto-0.1-20200101.120000-1.jar,true",
+        "/com/artipie/asto/0.1/asto-0.1.war,false"
+    })
+    void checksFreshnessOfLoadedItem(final String path, final boolean fresh) {
+        final Freshness freshness = new Freshness(Duration.ofHours(1));
+        freshness.loaded(path);
+        MatcherAssert.assertThat(
+            freshness.fresh(path),
+            new IsEqual<>(fresh)
+        );
+    }
+
+    @Test
+    void expiresLoadedItem() throws Exception {
+        final String path = "/com/artipie/asto/maven-metadata.xml";
+        final Freshness freshness = new Freshness(Duration.ofMillis(1));
+        freshness.loaded(path);
+        Thread.sleep(10);
+        MatcherAssert.assertThat(
+            freshness.fresh(path),
+            new IsEqual<>(false)
+        );
+    }
+}
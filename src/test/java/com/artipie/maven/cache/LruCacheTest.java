@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.cache;
+
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link LruCache}.
+ * @since 0.12
+ */
+final class LruCacheTest {
+
+    @Test
+    void returnsCachedValue() {
+        final LruCache<String, String> cache = new LruCache<>(2);
+        cache.put("one", "1");
+        MatcherAssert.assertThat(
+            cache.get("one"),
+            new IsEqual<>(Optional.of("1"))
+        );
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        final LruCache<String, String> cache = new LruCache<>(2);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+        cache.put("c", "3");
+        MatcherAssert.assertThat(
+            "Recently used entry is kept",
+            cache.get("a"),
+            new IsEqual<>(Optional.of("1"))
+        );
+        MatcherAssert.assertThat(
+            "Least recently used entry is evicted",
+            cache.get("b"),
+            new IsEqual<>(Optional.empty())
+        );
+    }
+
+    @Test
+    void removesValue() {
+        final LruCache<String, String> cache = new LruCache<>(2);
+        cache.put("x", "1");
+        cache.remove("x");
+        MatcherAssert.assertThat(
+            cache.get("x"),
+            new IsEqual<>(Optional.empty())
+        );
+    }
+
+    @Test
+    void evictsByWeight() {
+        final LruCache<String, String> cache = new LruCache<>(5L, String::length);
+        cache.put("first", "abc");
+        cache.put("second", "de");
+        cache.put("third", "f");
+        MatcherAssert.assertThat(
+            "Eldest entry is evicted when total weight exceeds capacity",
+            cache.get("first"),
+            new IsEqual<>(Optional.empty())
+        );
+        MatcherAssert.assertThat(
+            "Newer entries are kept",
+            cache.get("second"),
+            new IsEqual<>(Optional.of("de"))
+        );
+    }
+}
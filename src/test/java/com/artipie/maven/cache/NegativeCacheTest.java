@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.cache;
+
+import java.time.Duration;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link NegativeCache}.
+ * @since 0.12
+ */
+final class NegativeCacheTest {
+
+    @Test
+    void remembersMissingPath() {
+        final NegativeCache cache = new NegativeCache();
+        cache.add("/com/artipie/asto/0.1/asto-0.1-sources.jar");
+        MatcherAssert.assertThat(
+            cache.contains("/com/artipie/asto/0.1/asto-0.1-sources.jar"),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void appliesFirstMatchingRule() {
+        final NegativeCache cache = new NegativeCache(
+            new NegativeCache.Ttl(".*/maven-metadata\\.xml", Duration.ZERO),
+            new NegativeCache.Ttl(".*\\.jar", Duration.ofHours(1))
+        );
+        cache.add("/com/artipie/asto/maven-metadata.xml");
+        cache.add("/com/artipie/asto/0.1/asto-0.1.jar");
+        cache.add("/com/artipie/asto/0.1/asto-0.1.pom");
+        MatcherAssert.assertThat(
+            "Doesn't remember path with zero time to live",
+            cache.contains("/com/artipie/asto/maven-metadata.xml"),
+            new IsEqual<>(false)
+        );
+        MatcherAssert.assertThat(
+            "Remembers path matching rule",
+            cache.contains("/com/artipie/asto/0.1/asto-0.1.jar"),
+            new IsEqual<>(true)
+        );
+        MatcherAssert.assertThat(
+            "Doesn't remember path without rule",
+            cache.contains("/com/artipie/asto/0.1/asto-0.1.pom"),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void forgetsExpiredPath() throws Exception {
+        final NegativeCache cache = new NegativeCache(
+            new NegativeCache.Ttl(".*", Duration.ofMillis(1))
+        );
+        cache.add("/foo");
+        Thread.sleep(10);
+        MatcherAssert.assertThat(
+            cache.contains("/foo"),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void disabledCacheRemembersNothing() {
+        NegativeCache.DISABLED.add("/bar");
+        MatcherAssert.assertThat(
+            NegativeCache.DISABLED.contains("/bar"),
+            new IsEqual<>(false)
+        );
+    }
+}
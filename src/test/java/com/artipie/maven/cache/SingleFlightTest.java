@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link SingleFlight}.
+ * @since 0.12
+ */
+final class SingleFlightTest {
+
+    @Test
+    void runsFollowerAfterLeader() {
+        final SingleFlight<String> flight = new SingleFlight<>();
+        final CompletableFuture<String> leader = new CompletableFuture<>();
+        final AtomicInteger leaders = new AtomicInteger();
+        final CompletionStage<String> first = flight.run(
+            "key", () -> {
+                leaders.incrementAndGet();
+                return leader;
+            },
+            () -> CompletableFuture.completedFuture("follower")
+        );
+        final CompletionStage<String> second = flight.run(
+            "key", () -> {
+                leaders.incrementAndGet();
+                return leader;
+            },
+            () -> CompletableFuture.completedFuture("follower")
+        );
+        MatcherAssert.assertThat(
+            "Follower waits for leader",
+            second.toCompletableFuture().isDone(),
+            new IsEqual<>(false)
+        );
+        leader.complete("leader");
+        MatcherAssert.assertThat(
+            "Leader result is returned to leader",
+            first.toCompletableFuture().join(),
+            new IsEqual<>("leader")
+        );
+        MatcherAssert.assertThat(
+            "Follower result is returned to follower",
+            second.toCompletableFuture().join(),
+            new IsEqual<>("follower")
+        );
+        MatcherAssert.assertThat(
+            "Leader action is run once",
+            leaders.get(),
+            new IsEqual<>(1)
+        );
+    }
+
+    @Test
+    void startsNewLeaderAfterCompletion() {
+        final SingleFlight<String> flight = new SingleFlight<>();
+        flight.run(
+            "item", () -> CompletableFuture.completedFuture("first"),
+            () -> CompletableFuture.completedFuture("none")
+        ).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            flight.run(
+                "item", () -> CompletableFuture.completedFuture("second"),
+                () -> CompletableFuture.completedFuture("none")
+            ).toCompletableFuture().join(),
+            new IsEqual<>("second")
+        );
+    }
+}
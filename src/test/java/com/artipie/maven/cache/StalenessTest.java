@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.cache;
+
+import com.artipie.asto.FailedCompletionStage;
+import com.artipie.asto.Key;
+import com.artipie.asto.cache.CacheControl;
+import com.artipie.asto.cache.Remote;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link Staleness}.
+ * @since 0.12
+ */
+final class StalenessTest {
+
+    /**
+     * Failed validation.
+     */
+    private static final CacheControl FAILED =
+        (key, remote) -> new FailedCompletionStage<>(new IllegalStateException("down"));
+
+    @Test
+    void servesStaleItemOnError() {
+        MatcherAssert.assertThat(
+            Staleness.IF_ERROR.control(StalenessTest.FAILED, () -> null)
+                .validate(new Key.From("any"), Remote.EMPTY)
+                .toCompletableFuture().join(),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void keepsValidationResult() {
+        MatcherAssert.assertThat(
+            Staleness.IF_ERROR.control(CacheControl.Standard.NO_CACHE, () -> null)
+                .validate(new Key.From("item"), Remote.EMPTY)
+                .toCompletableFuture().join(),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void doesNotServeStaleItemByDefault() {
+        MatcherAssert.assertThat(
+            Staleness.NONE.control(CacheControl.Standard.NO_CACHE, () -> null)
+                .validate(new Key.From("key"), Remote.EMPTY)
+                .toCompletableFuture().join(),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void limitsBackgroundRefreshes() {
+        final Staleness staleness = new Staleness(1);
+        final CompletableFuture<Void> running = new CompletableFuture<>();
+        final AtomicInteger refreshes = new AtomicInteger();
+        final CacheControl control = staleness.control(
+            CacheControl.Standard.NO_CACHE,
+            () -> {
+                refreshes.incrementAndGet();
+                return running;
+            }
+        );
+        for (int idx = 0; idx < 3; ++idx) {
+            MatcherAssert.assertThat(
+                "Serves stale item",
+                control.validate(new Key.From("foo"), Remote.EMPTY)
+                    .toCompletableFuture().join(),
+                new IsEqual<>(true)
+            );
+        }
+        running.complete(null);
+        control.validate(new Key.From("foo"), Remote.EMPTY).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Runs one refresh at a time",
+            refreshes.get(),
+            new IsEqual<>(2)
+        );
+    }
+}
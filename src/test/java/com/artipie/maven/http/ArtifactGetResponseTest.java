@@ -27,9 +27,12 @@ import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
 import com.artipie.asto.blocking.BlockingStorage;
 import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.http.Headers;
+import com.artipie.http.headers.Header;
 import com.artipie.http.hm.RsHasBody;
 import com.artipie.http.hm.RsHasStatus;
 import com.artipie.http.rs.RsStatus;
+import com.artipie.maven.asto.SavedDigests;
 import java.nio.charset.StandardCharsets;
 import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.Test;
@@ -73,4 +76,41 @@ final class ArtifactGetResponseTest {
             new RsHasStatus(RsStatus.NOT_FOUND)
         );
     }
+
+    @Test
+    void notModifiedIfChecksumMatches() {
+        final Storage storage = new InMemoryStorage();
+        final Key key = new Key.From("repo/artifact3.jar");
+        final BlockingStorage bsto = new BlockingStorage(storage);
+        bsto.save(key, "content".getBytes(StandardCharsets.UTF_8));
+        bsto.save(
+            new Key.From("repo/artifact3.jar.sha1"), "c0ffee".getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            new ArtifactGetResponse(
+                storage, key, new SavedDigests(),
+                new Headers.From(new Header("If-None-Match", "\"c0ffee\""))
+            ),
+            new RsHasStatus(RsStatus.NOT_MODIFIED)
+        );
+    }
+
+    @Test
+    void okIfChecksumDoesNotMatch() {
+        final Storage storage = new InMemoryStorage();
+        final Key key = new Key.From("repo/artifact4.jar");
+        final byte[] data = "new".getBytes(StandardCharsets.UTF_8);
+        final BlockingStorage bsto = new BlockingStorage(storage);
+        bsto.save(key, data);
+        bsto.save(
+            new Key.From("repo/artifact4.jar.sha1"), "beef".getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            new ArtifactGetResponse(
+                storage, key, new SavedDigests(),
+                new Headers.From(new Header("If-None-Match", "c0ffee"))
+            ),
+            new RsHasBody(data)
+        );
+    }
 }
@@ -27,11 +27,19 @@ import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
 import com.artipie.asto.blocking.BlockingStorage;
 import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.http.Headers;
+import com.artipie.http.headers.ContentLength;
+import com.artipie.http.headers.Header;
 import com.artipie.http.hm.RsHasBody;
 import com.artipie.http.hm.RsHasStatus;
 import com.artipie.http.rs.RsStatus;
+import com.artipie.maven.asto.SavedDigests;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -72,4 +80,57 @@ final class ArtifactHeadResponseTest {
             new RsHasStatus(RsStatus.NOT_FOUND)
         );
     }
+
+    @Test
+    void usesKnownChecksums() {
+        final Storage storage = new InMemoryStorage();
+        final Key key = new Key.From("repo/known.jar");
+        new BlockingStorage(storage).save(key, "known".getBytes(StandardCharsets.UTF_8));
+        final SavedDigests digests = new SavedDigests();
+        digests.put(key, Collections.singletonMap("sha1", "abc"));
+        MatcherAssert.assertThat(
+            new ArtifactHeadResponse(
+                storage, key, digests, new Headers.From(new Header("If-None-Match", "abc"))
+            ),
+            new RsHasStatus(RsStatus.NOT_MODIFIED)
+        );
+    }
+
+    @Test
+    void hasContentLength() {
+        final Storage storage = new InMemoryStorage();
+        final Key key = new Key.From("repo/sized.jar");
+        new BlockingStorage(storage).save(key, "12345".getBytes(StandardCharsets.UTF_8));
+        final AtomicReference<Headers> headers = new AtomicReference<>();
+        new ArtifactHeadResponse(storage, key).send(
+            (status, hdrs, body) -> {
+                headers.set(hdrs);
+                return CompletableFuture.allOf();
+            }
+        ).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            new ContentLength(headers.get()).longValue(),
+            new IsEqual<>(5L)
+        );
+    }
+
+    @Test
+    void remembersChecksumsOfFoundArtifact() {
+        final Storage storage = new InMemoryStorage();
+        final Key key = new Key.From("repo/hot.jar");
+        final BlockingStorage bsto = new BlockingStorage(storage);
+        bsto.save(key, "hot".getBytes(StandardCharsets.UTF_8));
+        bsto.save(new Key.From("repo/hot.jar.sha1"), "def".getBytes(StandardCharsets.UTF_8));
+        final SavedDigests digests = new SavedDigests();
+        MatcherAssert.assertThat(
+            "Returns OK for found artifact",
+            new ArtifactHeadResponse(storage, key, digests),
+            new RsHasStatus(RsStatus.OK)
+        );
+        MatcherAssert.assertThat(
+            "Remembers artifact checksums",
+            digests.get(key, "sha1").orElse(""),
+            new IsEqual<>("def")
+        );
+    }
 }
@@ -79,6 +79,16 @@ public final class ArtifactHeadersTest {
         );
     }
 
+    @Test
+    void declaresNoRangesSupport() {
+        MatcherAssert.assertThat(
+            new MapOf<>(
+                new ArtifactHeaders(new Key.From("dist.zip"), Collections.emptyNavigableMap())
+            ),
+            Matchers.hasEntry("Accept-Ranges", "none")
+        );
+    }
+
     @CsvSource({
         "target.jar,application/java-archive",
         "target.pom,application/x-maven-pom+xml",
@@ -25,21 +25,48 @@ package com.artipie.maven.http;
 
 import com.artipie.asto.Content;
 import com.artipie.asto.FailedCompletionStage;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.cache.FromStorageCache;
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.http.Headers;
+import com.artipie.http.Slice;
+import com.artipie.http.headers.Header;
 import com.artipie.http.hm.RsHasBody;
+import com.artipie.http.hm.RsHasHeaders;
 import com.artipie.http.hm.RsHasStatus;
 import com.artipie.http.hm.SliceHasResponse;
 import com.artipie.http.rq.RequestLine;
 import com.artipie.http.rq.RqMethod;
 import com.artipie.http.rs.RsStatus;
 import com.artipie.http.rs.RsWithBody;
+import com.artipie.http.rs.RsWithHeaders;
 import com.artipie.http.rs.RsWithStatus;
+import com.artipie.http.rs.StandardRs;
 import com.artipie.http.slice.SliceSimple;
+import com.artipie.maven.cache.Freshness;
+import com.artipie.maven.cache.NegativeCache;
+import com.artipie.maven.cache.Staleness;
+import hu.akarnokd.rxjava2.interop.CompletableInterop;
+import io.reactivex.Flowable;
+import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
 
 /**
  * Test case for {@link CachedProxySlice}.
@@ -115,4 +142,491 @@ final class CachedProxySliceTest {
             )
         );
     }
+
+    @Test
+    void doesNotRequestHeadOnCacheMiss() {
+        final List<String> lines = new ArrayList<>(2);
+        final byte[] data = "jar".getBytes();
+        MatcherAssert.assertThat(
+            "Returns remote content",
+            new CachedProxySlice(
+                (line, headers, body) -> {
+                    lines.add(line);
+                    return new RsWithBody(ByteBuffer.wrap(data));
+                },
+                new FromStorageCache(new InMemoryStorage())
+            ),
+            new SliceHasResponse(
+                new RsHasBody(data),
+                new RequestLine(RqMethod.GET, "/com/test/lib.jar")
+            )
+        );
+        MatcherAssert.assertThat(
+            "Sends single GET request to remote",
+            lines,
+            Matchers.contains(Matchers.startsWith("GET"))
+        );
+    }
+
+    @Test
+    void doesNotRequestRemoteForRecentlyNotFoundPath() {
+        final AtomicInteger requests = new AtomicInteger();
+        final CachedProxySlice slice = new CachedProxySlice(
+            (line, headers, body) -> {
+                requests.incrementAndGet();
+                return new RsWithStatus(RsStatus.NOT_FOUND);
+            },
+            (key, supplier, control) -> supplier.get(),
+            new NegativeCache()
+        );
+        for (int idx = 0; idx < 2; ++idx) {
+            MatcherAssert.assertThat(
+                slice,
+                new SliceHasResponse(
+                    new RsHasStatus(RsStatus.NOT_FOUND),
+                    new RequestLine(RqMethod.GET, "/com/test/1.0/test-1.0-javadoc.jar")
+                )
+            );
+        }
+        MatcherAssert.assertThat(
+            "Requests remote once",
+            requests.get(),
+            new IsEqual<>(1)
+        );
+    }
+
+    @Test
+    void doesNotRevalidateCachedReleaseArtifact() {
+        final Storage storage = new InMemoryStorage();
+        final Key key = new Key.From("com/test/1.0/test-1.0.jar");
+        final byte[] data = "cached".getBytes();
+        storage.save(key, new Content.From(data)).join();
+        final List<String> lines = new ArrayList<>(1);
+        MatcherAssert.assertThat(
+            "Returns cached content",
+            new CachedProxySlice(
+                (line, headers, body) -> {
+                    lines.add(line);
+                    return StandardRs.NOT_FOUND;
+                },
+                new FromStorageCache(storage)
+            ),
+            new SliceHasResponse(
+                new RsHasBody(data),
+                new RequestLine(RqMethod.GET, "/com/test/1.0/test-1.0.jar")
+            )
+        );
+        MatcherAssert.assertThat(
+            "Doesn't send remote requests",
+            lines,
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void servesCachedContentIfRemoteFails() {
+        final Storage storage = new InMemoryStorage();
+        final byte[] data = "metadata".getBytes();
+        storage.save(new Key.From("com/test/maven-metadata.xml"), new Content.From(data))
+            .join();
+        MatcherAssert.assertThat(
+            new CachedProxySlice(
+                (line, headers, body) -> connection -> new FailedCompletionStage<>(
+                    new IllegalStateException("Remote is not available")
+                ),
+                new FromStorageCache(storage)
+            ),
+            new SliceHasResponse(
+                Matchers.allOf(
+                    new RsHasStatus(RsStatus.OK),
+                    new RsHasBody(data)
+                ),
+                new RequestLine(RqMethod.GET, "/com/test/maven-metadata.xml")
+            )
+        );
+    }
+
+    @Test
+    void doesNotServeCachedContentNotFoundInRemote() {
+        final Storage storage = new InMemoryStorage();
+        storage.save(
+            new Key.From("com/test/maven-metadata.xml"), new Content.From("old".getBytes())
+        ).join();
+        MatcherAssert.assertThat(
+            new CachedProxySlice(
+                new SliceSimple(StandardRs.NOT_FOUND), new FromStorageCache(storage)
+            ),
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.NOT_FOUND),
+                new RequestLine(RqMethod.GET, "/com/test/maven-metadata.xml")
+            )
+        );
+    }
+
+    @Test
+    void revalidatesContentWithoutRemoteChecksumsAgain() {
+        final Storage storage = new InMemoryStorage();
+        final byte[] data = "metadata".getBytes();
+        storage.save(new Key.From("com/test/maven-metadata.xml"), new Content.From(data))
+            .join();
+        final AtomicInteger heads = new AtomicInteger();
+        final Slice slice = new CachedProxySlice(
+            (line, headers, body) -> {
+                heads.incrementAndGet();
+                return StandardRs.OK;
+            },
+            new FromStorageCache(storage)
+        );
+        for (int idx = 0; idx < 2; idx += 1) {
+            MatcherAssert.assertThat(
+                "Serves cached content",
+                slice,
+                new SliceHasResponse(
+                    new RsHasBody(data),
+                    new RequestLine(RqMethod.GET, "/com/test/maven-metadata.xml")
+                )
+            );
+        }
+        MatcherAssert.assertThat(
+            "Revalidates content on each request",
+            heads.get(),
+            new IsEqual<>(2)
+        );
+    }
+
+    @Test
+    void servesStaleContentIfRemoteIsUnavailable() {
+        MatcherAssert.assertThat(
+            CachedProxySliceTest.unavailable(Staleness.IF_ERROR),
+            new SliceHasResponse(
+                Matchers.allOf(
+                    new RsHasStatus(RsStatus.OK),
+                    new RsHasBody("stale".getBytes())
+                ),
+                new RequestLine(RqMethod.GET, "/com/test/maven-metadata.xml")
+            )
+        );
+    }
+
+    @Test
+    void doesNotServeStaleContentWithoutStalenessPolicy() {
+        MatcherAssert.assertThat(
+            CachedProxySliceTest.unavailable(Staleness.NONE),
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.NOT_FOUND),
+                new RequestLine(RqMethod.GET, "/com/test/maven-metadata.xml")
+            )
+        );
+    }
+
+    @Test
+    void refreshesStaleContentInBackground() {
+        final Storage storage = new InMemoryStorage();
+        final byte[] data = "old".getBytes();
+        storage.save(new Key.From("com/test/maven-metadata.xml"), new Content.From(data))
+            .join();
+        final CompletableFuture<String> head = new CompletableFuture<>();
+        MatcherAssert.assertThat(
+            "Serves stale content",
+            new CachedProxySlice(
+                (line, headers, body) -> {
+                    head.complete(line);
+                    return StandardRs.NOT_FOUND;
+                },
+                new FromStorageCache(storage),
+                NegativeCache.DISABLED,
+                new Freshness(),
+                new RemoteChecksums(),
+                new Staleness()
+            ),
+            new SliceHasResponse(
+                new RsHasBody(data),
+                new RequestLine(RqMethod.GET, "/com/test/maven-metadata.xml")
+            )
+        );
+        MatcherAssert.assertThat(
+            "Revalidates content in background",
+            head.orTimeout(1, TimeUnit.MINUTES).join(),
+            Matchers.startsWith("HEAD /com/test/maven-metadata.xml")
+        );
+    }
+
+    @Test
+    void doesNotRequestRemoteGetOnCacheHit() {
+        final Storage storage = new InMemoryStorage();
+        final byte[] data = "cached".getBytes();
+        storage.save(new Key.From("com/test/hit.jar"), new Content.From(data)).join();
+        final List<String> lines = new ArrayList<>(1);
+        MatcherAssert.assertThat(
+            "Returns cached content",
+            new CachedProxySlice(
+                (line, headers, body) -> {
+                    lines.add(line);
+                    return new RsWithHeaders(
+                        StandardRs.OK,
+                        new Headers.From("X-Checksum-Sha1", DigestUtils.sha1Hex(data))
+                    );
+                },
+                new FromStorageCache(storage)
+            ),
+            new SliceHasResponse(
+                new RsHasBody(data),
+                new RequestLine(RqMethod.GET, "/com/test/hit.jar")
+            )
+        );
+        MatcherAssert.assertThat(
+            "Does not send remote GET request",
+            lines,
+            Matchers.not(Matchers.hasItem(Matchers.startsWith("GET ")))
+        );
+    }
+
+    @Test
+    void doesNotCacheContentWithInvalidChecksum() {
+        final Storage storage = new InMemoryStorage();
+        final CompletableFuture<Boolean> read = new CompletableFuture<>();
+        new CachedProxySlice(
+            new SliceSimple(
+                new RsWithBody(
+                    new RsWithHeaders(
+                        StandardRs.OK,
+                        new Headers.From("X-Checksum-Sha1", "0123456789abcdef")
+                    ),
+                    "corrupted".getBytes()
+                )
+            ),
+            new FromStorageCache(storage)
+        ).response(
+            new RequestLine(RqMethod.GET, "/com/test/bad.jar").toString(),
+            Headers.EMPTY, Content.EMPTY
+        ).send(
+            (status, headers, body) -> Flowable.fromPublisher(body).ignoreElements()
+                .doOnComplete(() -> read.complete(true))
+                .doOnError(err -> read.complete(false))
+                .onErrorComplete()
+                .<CompletionStage<Void>>to(CompletableInterop.await())
+        ).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Client download fails",
+            read.join(),
+            new IsEqual<>(false)
+        );
+        MatcherAssert.assertThat(
+            "Doesn't save content",
+            storage.exists(new Key.From("com/test/bad.jar")).join(),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void loadsContentIfClientDoesNotReadIt() throws Exception {
+        final Storage storage = new InMemoryStorage();
+        final UpstreamPermits permits = new UpstreamPermits(1, 0);
+        final byte[] data = "unread".getBytes();
+        final Slice slice = new CachedProxySlice(
+            new UpstreamSlice(
+                new SliceSimple(new RsWithBody(StandardRs.OK, data)),
+                permits,
+                Duration.ofMinutes(1),
+                Duration.ofMinutes(1)
+            ),
+            new FromStorageCache(storage),
+            NegativeCache.DISABLED,
+            new Freshness(),
+            new RemoteChecksums(),
+            Staleness.IF_ERROR,
+            Duration.ofMillis(100)
+        );
+        final String line = new RequestLine(RqMethod.GET, "/com/test/unread.jar").toString();
+        slice.response(line, Headers.EMPTY, Content.EMPTY)
+            .send((status, headers, body) -> CompletableFuture.allOf())
+            .toCompletableFuture().get(1, TimeUnit.MINUTES);
+        final CompletableFuture<byte[]> next = new CompletableFuture<>();
+        slice.response(line, Headers.EMPTY, Content.EMPTY).send(
+            (status, headers, body) -> new PublisherAs(body).bytes()
+                .thenAccept(next::complete)
+        );
+        MatcherAssert.assertThat(
+            "Loads content to cache",
+            next.get(1, TimeUnit.MINUTES),
+            new IsEqual<>(data)
+        );
+        MatcherAssert.assertThat(
+            "Releases upstream permit",
+            permits.acquire().isPresent(),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void sendsFullContentToClientAndCache() {
+        final byte[] data = "first chunk;second chunk".getBytes();
+        final CompletableFuture<byte[]> cached = new CompletableFuture<>();
+        final CompletableFuture<byte[]> read = new CompletableFuture<>();
+        new CachedProxySlice(
+            (line, headers, body) -> connection -> connection.accept(
+                RsStatus.OK,
+                new Headers.From("X-Checksum-Sha1", DigestUtils.sha1Hex(data)),
+                Flowable.just(
+                    ByteBuffer.wrap(data, 0, 12), ByteBuffer.wrap(data, 12, data.length - 12)
+                )
+            ),
+            (key, remote, control) -> remote.get().thenCompose(
+                content -> content.map(
+                    pub -> CachedProxySliceTest.consume(pub).<Optional<? extends Content>>thenApply(
+                        bytes -> {
+                            cached.complete(bytes);
+                            return Optional.of(new Content.From(bytes));
+                        }
+                    )
+                ).orElseGet(() -> CompletableFuture.completedFuture(Optional.empty()))
+            )
+        ).response(
+            new RequestLine(RqMethod.GET, "/com/test/full.jar").toString(),
+            Headers.EMPTY, Content.EMPTY
+        ).send(
+            (status, headers, body) -> CachedProxySliceTest.consume(body).thenAccept(read::complete)
+        ).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Client reads full content",
+            read.join(),
+            new IsEqual<>(data)
+        );
+        MatcherAssert.assertThat(
+            "Cache reads full content",
+            cached.join(),
+            new IsEqual<>(data)
+        );
+    }
+
+    @Test
+    void passesRemoteContentLength() {
+        final byte[] data = "sized".getBytes();
+        MatcherAssert.assertThat(
+            new CachedProxySlice(
+                (line, headers, body) -> connection -> connection.accept(
+                    RsStatus.OK,
+                    new Headers.From(
+                        new Header("Content-Length", "5"),
+                        new Header("X-Checksum-Md5", DigestUtils.md5Hex(data))
+                    ),
+                    Flowable.just(ByteBuffer.wrap(data))
+                ),
+                new FromStorageCache(new InMemoryStorage())
+            ),
+            new SliceHasResponse(
+                Matchers.allOf(
+                    new RsHasHeaders(
+                        new Header("Content-Length", "5"),
+                        new Header("X-Checksum-Md5", DigestUtils.md5Hex(data))
+                    ),
+                    new RsHasBody(data)
+                ),
+                new RequestLine(RqMethod.GET, "/com/test/sized.jar")
+            )
+        );
+    }
+
+    @Test
+    void completesRemoteRequestIfReadersCancel() throws Exception {
+        final CompletableFuture<Void> sent = new CompletableFuture<>();
+        new CachedProxySlice(
+            (line, headers, body) -> connection -> connection.accept(
+                RsStatus.OK, Headers.EMPTY,
+                Flowable.just(ByteBuffer.wrap("endless".getBytes())).concatWith(Flowable.never())
+            ).whenComplete((nothing, err) -> sent.complete(null)),
+            (key, remote, control) -> remote.get().thenCompose(
+                content -> content.map(
+                    pub -> Flowable.fromPublisher(pub).take(1).ignoreElements()
+                        .<CompletionStage<Void>>to(CompletableInterop.await())
+                        .<Optional<? extends Content>>thenApply(nothing -> Optional.empty())
+                ).orElseGet(() -> CompletableFuture.completedFuture(Optional.empty()))
+            )
+        ).response(
+            new RequestLine(RqMethod.GET, "/com/test/endless.jar").toString(),
+            Headers.EMPTY, Content.EMPTY
+        ).send(
+            (status, headers, body) -> Flowable.fromPublisher(body).take(1).ignoreElements()
+                .<CompletionStage<Void>>to(CompletableInterop.await())
+        );
+        sent.get(1, TimeUnit.MINUTES);
+        MatcherAssert.assertThat(sent.isDone(), new IsEqual<>(true));
+    }
+
+    @Test
+    void coalescesConcurrentRequests() {
+        final byte[] data = "shared".getBytes();
+        final AtomicInteger gets = new AtomicInteger();
+        final CompletableFuture<Void> gate = new CompletableFuture<>();
+        final Slice slice = new CachedProxySlice(
+            (line, headers, body) -> {
+                gets.incrementAndGet();
+                return connection -> gate.thenCompose(
+                    nothing -> connection.accept(
+                        RsStatus.OK, Headers.EMPTY, Flowable.just(ByteBuffer.wrap(data))
+                    )
+                );
+            },
+            new FromStorageCache(new InMemoryStorage())
+        );
+        final List<CompletableFuture<byte[]>> bodies = new ArrayList<>(2);
+        for (int idx = 0; idx < 2; idx += 1) {
+            final CompletableFuture<byte[]> read = new CompletableFuture<>();
+            slice.response(
+                new RequestLine(RqMethod.GET, "/com/test/shared.jar").toString(),
+                Headers.EMPTY, Content.EMPTY
+            ).send(
+                (status, headers, body) -> new PublisherAs(body).bytes().thenAccept(read::complete)
+            );
+            bodies.add(read);
+        }
+        gate.complete(null);
+        MatcherAssert.assertThat(
+            "Returns content to both clients",
+            bodies.stream().map(CompletableFuture::join).collect(Collectors.toList()),
+            Matchers.contains(data, data)
+        );
+        MatcherAssert.assertThat(
+            "Sends single remote request",
+            gets.get(),
+            new IsEqual<>(1)
+        );
+    }
+
+    /**
+     * Read content moving positions of its buffers.
+     * @param content Content
+     * @return Content bytes
+     */
+    private static CompletionStage<byte[]> consume(final Publisher<ByteBuffer> content) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        return Flowable.fromPublisher(content).doOnNext(
+            buf -> {
+                while (buf.hasRemaining()) {
+                    out.write(buf.get());
+                }
+            }
+        ).ignoreElements().<CompletionStage<Void>>to(CompletableInterop.await())
+            .thenApply(nothing -> out.toByteArray());
+    }
+
+    /**
+     * Proxy of unavailable remote with stale cached metadata.
+     * @param staleness Staleness policy
+     * @return Slice
+     */
+    private static Slice unavailable(final Staleness staleness) {
+        final Storage storage = new InMemoryStorage();
+        storage.save(
+            new Key.From("com/test/maven-metadata.xml"), new Content.From("stale".getBytes())
+        ).join();
+        return new CachedProxySlice(
+            new SliceSimple(new RsWithStatus(RsStatus.UNAVAILABLE)),
+            new FromStorageCache(storage),
+            NegativeCache.DISABLED,
+            new Freshness(),
+            new RemoteChecksums(),
+            staleness
+        );
+    }
 }
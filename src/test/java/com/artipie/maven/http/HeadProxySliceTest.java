@@ -24,8 +24,12 @@
 package com.artipie.maven.http;
 
 import com.artipie.asto.Content;
+import com.artipie.asto.Storage;
+import com.artipie.asto.cache.FromStorageCache;
 import com.artipie.asto.ext.PublisherAs;
+import com.artipie.asto.memory.InMemoryStorage;
 import com.artipie.http.Headers;
+import com.artipie.http.headers.Header;
 import com.artipie.http.hm.RsHasHeaders;
 import com.artipie.http.hm.RsHasStatus;
 import com.artipie.http.hm.SliceHasResponse;
@@ -35,8 +39,12 @@ import com.artipie.http.rs.RsStatus;
 import com.artipie.http.rs.RsWithHeaders;
 import com.artipie.http.rs.RsWithStatus;
 import com.artipie.http.rs.StandardRs;
+import com.artipie.http.slice.KeyFromPath;
 import com.artipie.http.slice.SliceSimple;
+import com.artipie.maven.cache.Freshness;
+import com.artipie.maven.cache.NegativeCache;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.hamcrest.collection.IsEmptyIterable;
@@ -88,4 +96,67 @@ class HeadProxySliceTest {
         );
     }
 
+    @Test
+    void answersFromCacheForFreshItem() {
+        final String path = "/com/test/1.0/test-1.0.jar";
+        final Storage storage = new InMemoryStorage();
+        storage.save(new KeyFromPath(path), new Content.From("jar".getBytes())).join();
+        final RemoteChecksums checksums = new RemoteChecksums();
+        checksums.put(path, new Headers.From("X-Checksum-Sha1", "abc"));
+        final AtomicInteger requests = new AtomicInteger();
+        MatcherAssert.assertThat(
+            "Returns cached item headers",
+            new HeadProxySlice(
+                (line, headers, body) -> {
+                    requests.incrementAndGet();
+                    return StandardRs.NOT_FOUND;
+                },
+                new FromStorageCache(storage),
+                new NegativeCache(),
+                new Freshness(),
+                checksums
+            ),
+            new SliceHasResponse(
+                Matchers.allOf(
+                    new RsHasStatus(RsStatus.OK),
+                    new RsHasHeaders(
+                        new Header("X-Checksum-Sha1", "abc"),
+                        new Header("Content-Length", "3")
+                    )
+                ),
+                new RequestLine(RqMethod.HEAD, path)
+            )
+        );
+        MatcherAssert.assertThat(
+            "Doesn't request remote",
+            requests.get(),
+            new IsEqual<>(0)
+        );
+    }
+
+    @Test
+    void requestsRemoteOnCacheMiss() {
+        final AtomicInteger requests = new AtomicInteger();
+        MatcherAssert.assertThat(
+            new HeadProxySlice(
+                (line, headers, body) -> {
+                    requests.incrementAndGet();
+                    return StandardRs.OK;
+                },
+                new FromStorageCache(new InMemoryStorage()),
+                new NegativeCache(),
+                new Freshness(),
+                new RemoteChecksums()
+            ),
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.OK),
+                new RequestLine(RqMethod.HEAD, "/com/test/2.0/test-2.0.pom")
+            )
+        );
+        MatcherAssert.assertThat(
+            "Requests remote",
+            requests.get(),
+            new IsEqual<>(1)
+        );
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.http;
+
+import com.artipie.http.Headers;
+import com.artipie.http.headers.Header;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Test for {@link IfNoneMatch}.
+ * @since 0.12
+ */
+final class IfNoneMatchTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "abc,abc,true",
+        "\"abc\",abc,true",
+        "W/\"abc\",abc,true",
+        "'\"xyz\", \"abc\"',abc,true",
+        "*,abc,true",
+        "xyz,abc,false"
+    })
+    void matchesEntityTags(final String header, final String etag, final boolean expected) {
+        MatcherAssert.assertThat(
+            new IfNoneMatch(new Headers.From(new Header("If-None-Match", header)))
+                .matches(etag),
+            new IsEqual<>(expected)
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({"abc", "*"})
+    void doesNotMatchUnknownTag(final String header) {
+        MatcherAssert.assertThat(
+            new IfNoneMatch(new Headers.From(new Header("If-None-Match", header)))
+                .matches(null),
+            new IsEqual<>(false)
+        );
+    }
+}
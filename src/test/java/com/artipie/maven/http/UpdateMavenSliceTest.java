@@ -36,9 +36,14 @@ import com.artipie.http.rq.RqMethod;
 import com.artipie.http.rs.RsStatus;
 import com.artipie.maven.Maven;
 import com.artipie.maven.ValidUpload;
+import com.artipie.maven.asto.ContentCache;
+import com.artipie.maven.asto.MissingKeys;
+import com.artipie.maven.asto.SavedDigests;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.stream.Collectors;
@@ -89,6 +94,31 @@ class UpdateMavenSliceTest {
         );
     }
 
+    @Test
+    void forgetsChecksumsWhenChecksumFileIsUploaded() {
+        final SavedDigests checksums = new SavedDigests();
+        final String location = "org/example/artifact/0.1/artifact-0.1.jar";
+        final Key artifact = new Key.From(UpdateMavenSlice.TEMP, location);
+        checksums.put(artifact, Collections.singletonMap("sha1", "123"));
+        MatcherAssert.assertThat(
+            "Returns CREATED status",
+            new UpdateMavenSlice(
+                new InMemoryStorage(),
+                new LocalCaches(checksums, new ContentCache(), new MissingKeys())
+            ),
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.CREATED),
+                new RequestLine("PUT", String.format("/%s.sha1", location)),
+                Headers.EMPTY, new Content.From("abc".getBytes())
+            )
+        );
+        MatcherAssert.assertThat(
+            "Forgets checksums of artifact",
+            checksums.get(artifact),
+            new IsEqual<>(Optional.empty())
+        );
+    }
+
     @Test
     void movesFilesToMainStorageAfterUpdate() {
         final Storage storage = new InMemoryStorage();
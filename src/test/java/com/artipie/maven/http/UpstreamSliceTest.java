@@ -0,0 +1,210 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.http;
+
+import com.artipie.asto.Content;
+import com.artipie.http.Headers;
+import com.artipie.http.Slice;
+import com.artipie.http.hm.RsHasBody;
+import com.artipie.http.hm.RsHasStatus;
+import com.artipie.http.hm.SliceHasResponse;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.RsWithBody;
+import com.artipie.http.rs.StandardRs;
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link UpstreamSlice}.
+ * @since 0.12
+ */
+final class UpstreamSliceTest {
+
+    /**
+     * Slice which never responds.
+     */
+    private static final Slice HANGING =
+        (line, headers, body) -> connection -> new CompletableFuture<>();
+
+    @Test
+    void passesResponse() {
+        MatcherAssert.assertThat(
+            new UpstreamSlice(
+                (line, headers, body) -> new RsWithBody(
+                    StandardRs.OK, "artifact", StandardCharsets.UTF_8
+                ),
+                new UpstreamPermits(1, 0),
+                Duration.ofMinutes(1),
+                Duration.ofMinutes(1)
+            ),
+            new SliceHasResponse(
+                Matchers.allOf(
+                    new RsHasStatus(RsStatus.OK),
+                    new RsHasBody("artifact", StandardCharsets.UTF_8)
+                ),
+                new RequestLine(RqMethod.GET, "/com/test/1.0/test-1.0.jar")
+            )
+        );
+    }
+
+    @Test
+    void failsFastWhenSaturated() {
+        final Slice slice = new UpstreamSlice(
+            UpstreamSliceTest.HANGING,
+            new UpstreamPermits(1, 0),
+            Duration.ofMinutes(1),
+            Duration.ofMinutes(1)
+        );
+        slice.response(
+            new RequestLine(RqMethod.GET, "/first").toString(), Headers.EMPTY, Content.EMPTY
+        ).send((status, headers, body) -> CompletableFuture.allOf());
+        MatcherAssert.assertThat(
+            slice,
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.UNAVAILABLE),
+                new RequestLine(RqMethod.GET, "/second")
+            )
+        );
+    }
+
+    @Test
+    void answersUnavailableOnDeadline() {
+        MatcherAssert.assertThat(
+            new UpstreamSlice(
+                UpstreamSliceTest.HANGING,
+                new UpstreamPermits(1, 0),
+                Duration.ofMillis(100),
+                Duration.ofMinutes(1)
+            ),
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.UNAVAILABLE),
+                new RequestLine(RqMethod.GET, "/any")
+            )
+        );
+    }
+
+    @Test
+    void answersUnavailableIfPermitIsNotAcquiredInTime() {
+        final UpstreamPermits permits = new UpstreamPermits(1, 1);
+        final Slice slice = new UpstreamSlice(
+            UpstreamSliceTest.HANGING,
+            permits,
+            Duration.ofMillis(100),
+            Duration.ofMinutes(1)
+        );
+        slice.response(
+            new RequestLine(RqMethod.GET, "/first").toString(), Headers.EMPTY, Content.EMPTY
+        ).send((status, headers, body) -> CompletableFuture.allOf());
+        MatcherAssert.assertThat(
+            "Answers unavailable on queue deadline",
+            slice,
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.UNAVAILABLE),
+                new RequestLine(RqMethod.GET, "/queued")
+            )
+        );
+        MatcherAssert.assertThat(
+            "Removes timed out request from queue",
+            permits.acquire().isPresent(),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void releasesPermitOfHungRequest() throws Exception {
+        final UpstreamPermits permits = new UpstreamPermits(1, 1);
+        MatcherAssert.assertThat(
+            "Answers unavailable on deadline",
+            new UpstreamSlice(
+                UpstreamSliceTest.HANGING,
+                permits,
+                Duration.ofMillis(100),
+                Duration.ofMillis(100)
+            ),
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.UNAVAILABLE),
+                new RequestLine(RqMethod.GET, "/hung")
+            )
+        );
+        final CompletableFuture<Void> next = permits.acquire().get();
+        next.get(1, TimeUnit.MINUTES);
+        MatcherAssert.assertThat(
+            "Releases permit after both deadlines",
+            next.isDone(),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void keepsPermitUntilLateResponseIsDrained() throws Exception {
+        final UpstreamPermits permits = new UpstreamPermits(1, 1);
+        final CompletableFuture<Void> gate = new CompletableFuture<>();
+        final AtomicBoolean drained = new AtomicBoolean();
+        final Slice slice = new UpstreamSlice(
+            (line, headers, body) -> connection -> gate.thenCompose(
+                nothing -> connection.accept(
+                    RsStatus.OK,
+                    Headers.EMPTY,
+                    Flowable.just(ByteBuffer.wrap("late".getBytes()))
+                        .doOnComplete(() -> drained.set(true))
+                )
+            ),
+            permits,
+            Duration.ofMillis(100),
+            Duration.ofMinutes(1)
+        );
+        MatcherAssert.assertThat(
+            "Answers unavailable on deadline",
+            slice,
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.UNAVAILABLE),
+                new RequestLine(RqMethod.GET, "/late")
+            )
+        );
+        final CompletableFuture<Void> next = permits.acquire().get();
+        MatcherAssert.assertThat(
+            "Keeps permit while origin request runs",
+            next.isDone(),
+            new IsEqual<>(false)
+        );
+        gate.complete(null);
+        next.get(1, TimeUnit.MINUTES);
+        MatcherAssert.assertThat(
+            "Drains late response body",
+            drained.get(),
+            new IsEqual<>(true)
+        );
+    }
+}
@@ -23,10 +23,12 @@
  */
 package com.artipie.maven.metadata;
 
+import com.artipie.asto.Content;
 import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
 import com.artipie.asto.memory.InMemoryStorage;
 import com.artipie.maven.MetadataXml;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletionException;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.hamcrest.MatcherAssert;
@@ -80,6 +82,24 @@ class ArtifactsMetadataTest {
         );
     }
 
+    @Test
+    void readsTopLevelVersion() {
+        this.storage.save(
+            new Key.From(this.key, "maven-metadata.xml"),
+            new Content.From(
+                String.join(
+                    "",
+                    "<metadata><groupId>com.test</groupId><artifactId>logger</artifactId>",
+                    "<version>1.0-SNAPSHOT</version></metadata>"
+                ).getBytes(StandardCharsets.UTF_8)
+            )
+        ).join();
+        MatcherAssert.assertThat(
+            new ArtifactsMetadata(this.storage).maxVersion(this.key).toCompletableFuture().join(),
+            new IsEqual<>("1.0-SNAPSHOT")
+        );
+    }
+
     @Test
     void throwsExceptionOnInvalidMetadata() {
         this.generate();
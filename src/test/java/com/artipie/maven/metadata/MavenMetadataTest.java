@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.metadata;
+
+import com.artipie.asto.ext.PublisherAs;
+import com.jcabi.matchers.XhtmlMatchers;
+import com.jcabi.xml.XMLDocument;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link MavenMetadata}.
+ * @since 0.12
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class MavenMetadataTest {
+
+    @Test
+    void replacesVersioning() {
+        MatcherAssert.assertThat(
+            MavenMetadataTest.xml(
+                new MavenMetadata(
+                    String.join(
+                        "\n",
+                        "<?xml version=\"1.0\" encoding=\"UTF-8\"?>",
+                        "<metadata modelVersion=\"1.1.0\">",
+                        "  <groupId>com.artipie</groupId>",
+                        "  <versioning>",
+                        "    <latest>0.1</latest>",
+                        "    <versions><version>0.1</version></versions>",
+                        "  </versioning>",
+                        "  <artifactId>asto</artifactId>",
+                        "</metadata>"
+                    ).getBytes(StandardCharsets.UTF_8)
+                ).versions(Arrays.asList("0.1", "0.2", "0.3-SNAPSHOT"))
+            ),
+            XhtmlMatchers.hasXPaths(
+                "/metadata[@modelVersion = '1.1.0']",
+                "/metadata/groupId[text() = 'com.artipie']",
+                "/metadata/artifactId[text() = 'asto']",
+                "/metadata[count(versioning) = 1]",
+                "/metadata/versioning/latest[text() = '0.3-SNAPSHOT']",
+                "/metadata/versioning/release[text() = '0.2']",
+                "/metadata/versioning/versions[count(version) = 3]",
+                "/metadata/versioning/versions/version[text() = '0.1']",
+                "/metadata/versioning/lastUpdated"
+            )
+        );
+    }
+
+    @Test
+    void writesManyVersions() {
+        final List<String> versions = IntStream.range(0, 2000)
+            .mapToObj(num -> String.format("1.%d", num))
+            .collect(Collectors.toList());
+        MatcherAssert.assertThat(
+            new MetadataReader(
+                MavenMetadataTest.xml(
+                    new MavenMetadata(
+                        "<metadata><groupId>g</groupId></metadata>"
+                            .getBytes(StandardCharsets.UTF_8)
+                    ).versions(versions)
+                ).getBytes(StandardCharsets.UTF_8)
+            ).read().versions(),
+            new IsEqual<>(versions)
+        );
+    }
+
+    @Test
+    void writesVersioningInRootNamespace() {
+        MatcherAssert.assertThat(
+            new XMLDocument(
+                MavenMetadataTest.xml(
+                    new MavenMetadata(
+                        "<metadata xmlns=\"urn:test\"><groupId>g</groupId></metadata>"
+                            .getBytes(StandardCharsets.UTF_8)
+                    ).versions(Arrays.asList("1.0"))
+                )
+            ).registerNs("m", "urn:test")
+                .xpath("/m:metadata/m:versioning/m:versions/m:version/text()"),
+            Matchers.contains("1.0")
+        );
+    }
+
+    @Test
+    void keepsSourceWithoutVersionsUpdate() {
+        final String source = "<metadata><groupId>any</groupId></metadata>";
+        MatcherAssert.assertThat(
+            MavenMetadataTest.xml(new MavenMetadata(source.getBytes(StandardCharsets.UTF_8))),
+            new IsEqual<>(source)
+        );
+    }
+
+    /**
+     * Metadata content as string.
+     * @param meta Metadata
+     * @return Xml string
+     */
+    private static String xml(final MavenMetadata meta) {
+        return new PublisherAs(meta.content()).string(StandardCharsets.UTF_8)
+            .toCompletableFuture().join();
+    }
+}
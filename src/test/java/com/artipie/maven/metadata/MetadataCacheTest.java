@@ -0,0 +1,138 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.metadata;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.memory.InMemoryStorage;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link MetadataCache}.
+ * @since 0.12
+ */
+final class MetadataCacheTest {
+
+    /**
+     * Metadata key.
+     */
+    private static final Key KEY = new Key.From("com/test/logger/maven-metadata.xml");
+
+    /**
+     * Storage.
+     */
+    private Storage storage;
+
+    @BeforeEach
+    void init() {
+        this.storage = new InMemoryStorage();
+    }
+
+    @Test
+    void parsesMetadata() {
+        this.save("1.0", "1.1");
+        final ParsedMetadata meta = new MetadataCache().load(this.storage, MetadataCacheTest.KEY)
+            .toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Reads group id",
+            meta.group(),
+            new IsEqual<>("com.test")
+        );
+        MatcherAssert.assertThat(
+            "Reads artifact id",
+            meta.artifact(),
+            new IsEqual<>("logger")
+        );
+        MatcherAssert.assertThat(
+            "Reads versions",
+            meta.versions(),
+            Matchers.contains("1.0", "1.1")
+        );
+    }
+
+    @Test
+    void returnsCachedMetadataForSameSize() {
+        this.save("1.0");
+        final MetadataCache cache = new MetadataCache();
+        final ParsedMetadata first = cache.load(this.storage, MetadataCacheTest.KEY)
+            .toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            cache.load(this.storage, MetadataCacheTest.KEY).toCompletableFuture().join(),
+            new IsSame<>(first)
+        );
+    }
+
+    @Test
+    void parsesAgainWhenSizeChanged() {
+        this.save("1.0");
+        final MetadataCache cache = new MetadataCache();
+        cache.load(this.storage, MetadataCacheTest.KEY).toCompletableFuture().join();
+        this.save("1.0", "2.0");
+        MatcherAssert.assertThat(
+            cache.load(this.storage, MetadataCacheTest.KEY).toCompletableFuture().join()
+                .versions(),
+            Matchers.contains("1.0", "2.0")
+        );
+    }
+
+    @Test
+    void parsesAgainWhenInvalidated() {
+        this.save("1.0");
+        final MetadataCache cache = new MetadataCache();
+        cache.load(this.storage, MetadataCacheTest.KEY).toCompletableFuture().join();
+        this.save("2.0");
+        cache.invalidate(MetadataCacheTest.KEY);
+        MatcherAssert.assertThat(
+            cache.load(this.storage, MetadataCacheTest.KEY).toCompletableFuture().join()
+                .versions(),
+            Matchers.contains("2.0")
+        );
+    }
+
+    /**
+     * Saves metadata with versions.
+     * @param versions Versions
+     */
+    private void save(final String... versions) {
+        final StringBuilder xml = new StringBuilder()
+            .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<metadata>")
+            .append("<groupId>com.test</groupId><artifactId>logger</artifactId>")
+            .append("<versioning><versions>");
+        for (final String version : versions) {
+            xml.append("<version>").append(version).append("</version>");
+        }
+        xml.append("</versions></versioning></metadata>");
+        this.storage.save(
+            MetadataCacheTest.KEY,
+            new Content.From(xml.toString().getBytes(StandardCharsets.UTF_8))
+        ).join();
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Artipie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.artipie.maven.metadata;
+
+import com.jcabi.log.Logger;
+import com.jcabi.xml.XMLDocument;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link MetadataReader}.
+ * @since 0.12
+ */
+final class MetadataReaderTest {
+
+    @Test
+    void readsMetadata() {
+        final ParsedMetadata meta = MetadataReaderTest.read(
+            String.join(
+                "\n",
+                "<?xml version=\"1.0\" encoding=\"UTF-8\"?>",
+                "<metadata>",
+                "  <groupId>com.artipie</groupId>",
+                "  <artifactId>asto</artifactId>",
+                "  <versioning>",
+                "    <latest>0.2-SNAPSHOT</latest>",
+                "    <release>0.1</release>",
+                "    <versions>",
+                "      <version>0.1</version>",
+                "      <version>0.2-SNAPSHOT</version>",
+                "    </versions>",
+                "    <lastUpdated>20200804141716</lastUpdated>",
+                "  </versioning>",
+                "</metadata>"
+            )
+        );
+        MatcherAssert.assertThat(
+            "Reads group id",
+            meta.group(),
+            new IsEqual<>("com.artipie")
+        );
+        MatcherAssert.assertThat(
+            "Reads artifact id",
+            meta.artifact(),
+            new IsEqual<>("asto")
+        );
+        MatcherAssert.assertThat(
+            "Reads versions",
+            meta.versions(),
+            Matchers.contains("0.1", "0.2-SNAPSHOT")
+        );
+        MatcherAssert.assertThat(
+            "Reads latest",
+            meta.latest(),
+            new IsEqual<>(Optional.of("0.2-SNAPSHOT"))
+        );
+        MatcherAssert.assertThat(
+            "Reads release",
+            meta.release(),
+            new IsEqual<>(Optional.of("0.1"))
+        );
+    }
+
+    @Test
+    void ignoresNestedElementsWithSameNames() {
+        final ParsedMetadata meta = MetadataReaderTest.read(
+            String.join(
+                "",
+                "<metadata xmlns=\"http://maven.apache.org/METADATA/1.1.0\">",
+                "<plugins><plugin><artifactId>plugin</artifactId></plugin></plugins>",
+                "<groupId>org.example</groupId><artifactId>lib</artifactId>",
+                "<versioning><snapshotVersions><snapshotVersion><version>1.0-1</version>",
+                "</snapshotVersion></snapshotVersions>",
+                "<versions><version>1.0</version></versions></versioning>",
+                "</metadata>"
+            )
+        );
+        MatcherAssert.assertThat(
+            "Reads top-level artifact id",
+            meta.artifact(),
+            new IsEqual<>("lib")
+        );
+        MatcherAssert.assertThat(
+            "Reads only versioning versions",
+            meta.versions(),
+            Matchers.contains("1.0")
+        );
+    }
+
+    @Test
+    void readsManyVersions() {
+        final int count = 50_000;
+        MatcherAssert.assertThat(
+            MetadataReaderTest.read(
+                IntStream.range(0, count)
+                    .mapToObj(num -> String.format("<version>1.%d</version>", num))
+                    .collect(
+                        Collectors.joining(
+                            "", "<metadata><versioning><versions>",
+                            "</versions></versioning></metadata>"
+                        )
+                    )
+            ).versions(),
+            Matchers.hasSize(count)
+        );
+    }
+
+    @Test
+    void readsTopLevelVersion() {
+        MatcherAssert.assertThat(
+            MetadataReaderTest.read(
+                String.join(
+                    "",
+                    "<metadata><groupId>com.test</groupId><artifactId>lib</artifactId>",
+                    "<version>1.0-SNAPSHOT</version><versioning><snapshot>",
+                    "<buildNumber>1</buildNumber></snapshot></versioning></metadata>"
+                )
+            ).version(),
+            new IsEqual<>(Optional.of("1.0-SNAPSHOT"))
+        );
+    }
+
+    @Test
+    void readsFasterThanXpath() {
+        final byte[] xml = IntStream.range(0, 10_000)
+            .mapToObj(num -> String.format("<version>1.%d</version>", num))
+            .collect(
+                Collectors.joining(
+                    "", "<metadata><groupId>com.test</groupId><versioning><versions>",
+                    "</versions></versioning></metadata>"
+                )
+            ).getBytes(StandardCharsets.UTF_8);
+        final long stax = MetadataReaderTest.best(() -> new MetadataReader(xml).read());
+        final long xpath = MetadataReaderTest.best(
+            () -> new XMLDocument(new String(xml, StandardCharsets.UTF_8))
+                .xpath("/metadata/versioning/versions/version/text()")
+        );
+        Logger.info(
+            this, "Read 10k versions: StAX %[nano]s, DOM with XPath %[nano]s", stax, xpath
+        );
+        MatcherAssert.assertThat(stax, Matchers.lessThan(xpath));
+    }
+
+    @Test
+    void failsOnMissingGroupId() {
+        final ParsedMetadata meta = MetadataReaderTest.read(
+            "<metadata><artifactId>any</artifactId></metadata>"
+        );
+        Assertions.assertThrows(IllegalArgumentException.class, meta::group);
+    }
+
+    @Test
+    void failsOnInvalidXml() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> MetadataReaderTest.read("<metadata><groupId>")
+        );
+    }
+
+    @Test
+    void doesNotResolveEntities() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> MetadataReaderTest.read(
+                String.join(
+                    "",
+                    "<!DOCTYPE metadata [<!ENTITY ext SYSTEM \"file:///etc/passwd\">]>",
+                    "<metadata><groupId>&ext;</groupId></metadata>"
+                )
+            ).group()
+        );
+    }
+
+    /**
+     * Read metadata from string.
+     * @param xml Metadata xml
+     * @return Parsed metadata
+     */
+    private static ParsedMetadata read(final String xml) {
+        return new MetadataReader(xml.getBytes(StandardCharsets.UTF_8)).read();
+    }
+
+    /**
+     * Best time of several runs after warm up.
+     * @param action Measured action
+     * @return Time in nanos
+     */
+    private static long best(final Runnable action) {
+        final int warmup = 3;
+        for (int idx = 0; idx < warmup; idx += 1) {
+            action.run();
+        }
+        long res = Long.MAX_VALUE;
+        final int runs = 5;
+        for (int idx = 0; idx < runs; idx += 1) {
+            final long start = System.nanoTime();
+            action.run();
+            res = Math.min(res, System.nanoTime() - start);
+        }
+        return res;
+    }
+}
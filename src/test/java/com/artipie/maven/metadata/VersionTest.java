@@ -23,8 +23,15 @@
  */
 package com.artipie.maven.metadata;
 
+import com.jcabi.log.Logger;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.maven.artifact.versioning.ComparableVersion;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -34,6 +41,13 @@ import org.junit.jupiter.params.provider.CsvSource;
  */
 class VersionTest {
 
+    /**
+     * Version qualifiers for generated versions.
+     */
+    private static final String[] QUALIFIERS = {
+        "", "-SNAPSHOT", "-alpha-1", "-beta2", "-RC1", ".Final", "-sp1", "-foo"
+    };
+
     @CsvSource({
         "1,1,0",
         "1,2,-1",
@@ -51,4 +65,101 @@ class VersionTest {
         );
     }
 
+    @CsvSource({
+        "1.0-SNAPSHOT,1.0,-1",
+        "1.0-alpha-1,1.0-beta-1,-1",
+        "1.0-a1,1.0-alpha1,0",
+        "1.0-beta2,1.0-RC1,-1",
+        "1.0-RC1,1.0,-1",
+        "1.0-cr1,1.0-rc1,0",
+        "2.3.Final,2.3,0",
+        "1.0.0,1,0",
+        "1.0-ga,1.0,0",
+        "1.0-sp1,1.0,1",
+        "1.0-foo,1.0,1",
+        "1.0-foo,1.0-bar,1",
+        "1.0.1,1.0.10,-1",
+        "1-1,1,1",
+        "1.0-milestone-2,1.0-M3,-1",
+        "99999999999999999999,9223372036854775807,1"
+    })
+    @ParameterizedTest
+    void comparesQualifiedVersions(final String first, final String second, final int res) {
+        MatcherAssert.assertThat(
+            new Version(first).compareTo(new Version(second)),
+            new IsEqual<>(res)
+        );
+    }
+
+    @Test
+    void keepsOriginalValue() {
+        MatcherAssert.assertThat(
+            new Version("1.0-RC1").toString(),
+            new IsEqual<>("1.0-RC1")
+        );
+    }
+
+    @Test
+    void sortsLikeComparableVersion() {
+        final List<String> values = VersionTest.generated();
+        MatcherAssert.assertThat(
+            values.stream().map(Version::new).sorted().map(Version::toString)
+                .collect(Collectors.toList()),
+            new IsEqual<>(
+                values.stream().map(ComparableVersion::new).sorted()
+                    .map(ComparableVersion::toString).collect(Collectors.toList())
+            )
+        );
+    }
+
+    @Test
+    void sortsNotSlowerThanComparableVersion() {
+        final List<String> values = VersionTest.generated();
+        final long parsed = VersionTest.best(
+            () -> values.stream().map(Version::new).sorted().collect(Collectors.toList())
+        );
+        final long maven = VersionTest.best(
+            () -> values.stream().map(ComparableVersion::new).sorted()
+                .collect(Collectors.toList())
+        );
+        Logger.info(
+            this, "Sort 20k versions: Version %[nano]s, ComparableVersion %[nano]s",
+            parsed, maven
+        );
+        MatcherAssert.assertThat(parsed, Matchers.lessThan(maven * 2));
+    }
+
+    /**
+     * Generated versions.
+     * @return Versions list
+     */
+    private static List<String> generated() {
+        return IntStream.range(0, 20_000)
+            .mapToObj(
+                num -> String.format(
+                    "%d.%d.%d%s", num % 7, num % 13, num % 101,
+                    VersionTest.QUALIFIERS[num % VersionTest.QUALIFIERS.length]
+                )
+            ).collect(Collectors.toList());
+    }
+
+    /**
+     * Best time of several runs after warm up.
+     * @param action Measured action
+     * @return Time in nanos
+     */
+    private static long best(final Runnable action) {
+        final int warmup = 3;
+        for (int idx = 0; idx < warmup; idx += 1) {
+            action.run();
+        }
+        long res = Long.MAX_VALUE;
+        final int runs = 5;
+        for (int idx = 0; idx < runs; idx += 1) {
+            final long start = System.nanoTime();
+            action.run();
+            res = Math.min(res, System.nanoTime() - start);
+        }
+        return res;
+    }
 }